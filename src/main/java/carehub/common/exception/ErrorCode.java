@@ -11,6 +11,8 @@ public enum ErrorCode {
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C002", "잘못된 타입입니다"),
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "C003", "요청한 리소스를 찾을 수 없습니다"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C004", "서버 내부 오류가 발생했습니다"),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "C005", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    VERSION_CONFLICT(HttpStatus.CONFLICT, "C006", "다른 사용자가 먼저 수정했습니다. 최신 내용을 다시 조회해주세요"),
 
     // 인증 오류
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "인증되지 않은 접근입니다"),
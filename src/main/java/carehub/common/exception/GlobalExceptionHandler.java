@@ -4,6 +4,8 @@ import carehub.common.dto.response.ApiResponse;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -17,6 +19,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @Value("${app.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
     // 유효성 검증 예외 처리
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -115,6 +120,14 @@ public class GlobalExceptionHandler {
         log.error("오류 코드: {}, 오류 메시지: {}", ex.getErrorCode().getCode(), ex.getMessage());
 
         ApiResponse<Void> response = ApiResponse.error(ex.getErrorCode(), ex.getMessage());
+
+        // 과부하로 거절된 요청은 재시도 시점 안내
+        if (ex.getErrorCode().getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(response);
+        }
+
         return ResponseEntity.status(ex.getErrorCode().getStatus()).body(response);
     }
 
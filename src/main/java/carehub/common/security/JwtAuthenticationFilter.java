@@ -1,6 +1,7 @@
 package carehub.common.security;
 
 import carehub.domain.security.JwtTokenProvider;
+import carehub.domain.security.VerifiedClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,9 +30,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String jwt = resolveToken(request);
+            VerifiedClaims verifiedClaims = StringUtils.hasText(jwt) ? tokenProvider.verifyToken(jwt) : null;
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Authentication authentication = tokenProvider.getAuthentication(jwt);
+            if (verifiedClaims != null) {
+                Authentication authentication = tokenProvider.getAuthentication(verifiedClaims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.debug("Setting authentication to security context for '{}'", authentication.getName());
             } else {
@@ -12,15 +12,17 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
 @Entity
 @Table(name = "care_records", indexes = {
-        @Index(name = "idx_care_record_subject", columnList = "care_subject_id"),
-        @Index(name = "idx_care_record_type", columnList = "record_type"),
-        @Index(name = "idx_care_record_date", columnList = "recorded_at")
+        @Index(name = "idx_care_record_subject_recorded", columnList = "care_subject_id, recorded_at DESC, id DESC"),
+        @Index(name = "idx_care_record_subject_type_recorded",
+                columnList = "care_subject_id, record_type, recorded_at DESC, id DESC"),
+        @Index(name = "idx_care_record_subject_change", columnList = "care_subject_id, change_seq")
 })
 @Data
 @Builder
@@ -28,8 +30,10 @@ import java.util.Map;
 @AllArgsConstructor
 public class CareRecord {
 
+    // 시퀀스(pooled, 50개 단위 할당)를 사용해야 INSERT 배치가 적용된다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "care_records_seq")
+    @SequenceGenerator(name = "care_records_seq", sequenceName = "care_records_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -58,6 +62,32 @@ public class CareRecord {
     @JoinColumn(name = "recorded_by", nullable = false)
     private User recordedBy;
 
+    // recordData에서 DB가 생성하는 유형별 컬럼 (읽기 전용, V9 마이그레이션 참고)
+    @Column(name = "feeding_amount", insertable = false, updatable = false)
+    private BigDecimal feedingAmount;
+
+    @Column(name = "feeding_method", length = 30, insertable = false, updatable = false)
+    private String feedingMethod;
+
+    @Column(name = "sleep_start_at", insertable = false, updatable = false)
+    private LocalDateTime sleepStartAt;
+
+    @Column(name = "sleep_end_at", insertable = false, updatable = false)
+    private LocalDateTime sleepEndAt;
+
+    @Column(name = "sleep_minutes", insertable = false, updatable = false)
+    private BigDecimal sleepMinutes;
+
+    @Column(name = "diaper_kind", length = 30, insertable = false, updatable = false)
+    private String diaperKind;
+
+    @Column(name = "health_temperature", insertable = false, updatable = false)
+    private BigDecimal healthTemperature;
+
+    // 케어 대상 내 변경 순번 (생성/수정 시마다 증가, 동기화 기준)
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,11 @@
+package carehub.domain.carerecord;
+
+/**
+ * 케어 기록과 조회한 사용자의 접근 여부/작성자 여부
+ * 케어 대상과 작성자는 함께 조회되어 있다.
+ */
+public record CareRecordAccess(
+        CareRecord careRecord,
+        boolean accessible,
+        boolean author) {
+}
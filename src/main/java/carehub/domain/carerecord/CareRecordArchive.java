@@ -0,0 +1,62 @@
+package carehub.domain.carerecord;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 케어 기록 (읽기 전용)
+ * 보관 기간이 지난 월 파티션의 기록이 옮겨지며, recordData는 gzip으로 압축된 JSON이다.
+ */
+@Entity
+@Table(name = "care_records_archive", indexes = {
+        @Index(name = "idx_care_record_archive_subject_recorded",
+                columnList = "care_subject_id, recorded_at DESC, id DESC")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareRecordArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "care_subject_id", nullable = false)
+    private Long careSubjectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "record_type", nullable = false, length = 20)
+    private CareRecordType recordType;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @Column(name = "record_data_gz")
+    private byte[] recordDataGz;
+
+    @Column(name = "recorded_by", nullable = false)
+    private Long recordedById;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
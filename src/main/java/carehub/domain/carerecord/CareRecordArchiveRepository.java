@@ -0,0 +1,52 @@
+package carehub.domain.carerecord;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CareRecordArchiveRepository extends JpaRepository<CareRecordArchive, Long> {
+
+    /**
+     * 케어 대상의 가장 최근 보관 기록 시간 (보관된 기록이 없으면 null)
+     */
+    @Query("SELECT MAX(a.recordedAt) FROM CareRecordArchive a WHERE a.careSubjectId = :careSubjectId")
+    LocalDateTime findLatestRecordedAt(@Param("careSubjectId") Long careSubjectId);
+
+    /**
+     * 보관된 기록 조회 (커서 기반, 최신순)
+     */
+    @Query("SELECT a FROM CareRecordArchive a " +
+            "WHERE a.careSubjectId = :careSubjectId " +
+            "AND a.recordedAt >= :startDate AND a.recordedAt <= :endDate " +
+            "AND (a.recordedAt, a.id) < (:cursorRecordedAt, :cursorId) " +
+            "ORDER BY a.recordedAt DESC, a.id DESC")
+    List<CareRecordArchive> findByCareSubjectIdBefore(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("cursorRecordedAt") LocalDateTime cursorRecordedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 보관된 기록 유형별 조회 (커서 기반, 최신순)
+     */
+    @Query("SELECT a FROM CareRecordArchive a " +
+            "WHERE a.careSubjectId = :careSubjectId " +
+            "AND a.recordType = :recordType " +
+            "AND a.recordedAt >= :startDate AND a.recordedAt <= :endDate " +
+            "AND (a.recordedAt, a.id) < (:cursorRecordedAt, :cursorId) " +
+            "ORDER BY a.recordedAt DESC, a.id DESC")
+    List<CareRecordArchive> findByCareSubjectIdAndRecordTypeBefore(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("recordType") CareRecordType recordType,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("cursorRecordedAt") LocalDateTime cursorRecordedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+}
@@ -0,0 +1,238 @@
+package carehub.domain.carerecord;
+
+import carehub.domain.user.User;
+import carehub.domain.user.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 오래된 케어 기록 보관
+ * 보관 기간이 지난 월 파티션(및 보존 기간으로 분리된 파티션)의 기록을 recordData를 압축해
+ * care_records_archive로 옮긴 뒤 파티션을 통째로 삭제한다 (대량 DELETE 없음). 보관된 기록은 읽기 전용이다.
+ * 옮긴 기록마다 삭제 표시를 남겨 증분 동기화 중인 클라이언트에서도 사라지게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CareRecordArchiveService {
+
+    private static final String LOCK_KEY = "care-record:archive:lock";
+
+    // 락 소유자일 때만 해제
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final String SELECT_BATCH_SQL =
+            "SELECT id, care_subject_id, record_type, title, description, recorded_at, " +
+            "record_data::text AS record_data, recorded_by, created_at, updated_at, change_seq " +
+            "FROM %s WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO care_records_archive (id, care_subject_id, record_type, title, description, recorded_at, " +
+            "record_data_gz, recorded_by, created_at, updated_at, change_seq, archived_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (id) DO NOTHING";
+
+    // 기간 조건이 없을 때의 하한
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    private static final TypeReference<Map<String, Object>> RECORD_DATA_TYPE = new TypeReference<>() {
+    };
+
+    private final CareRecordArchiveRepository careRecordArchiveRepository;
+    private final CareRecordPartitionService careRecordPartitionService;
+    private final CareRecordSyncService careRecordSyncService;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 기록 시간 기준 보관 기간 (개월, 0이면 보관하지 않음)
+    @Value("${app.archive.after-months:24}")
+    private int afterMonths;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.archive.lock-ttl-seconds:3600}")
+    private long lockTtlSeconds;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 보관 기간이 지난 월 파티션 보관 (한 노드에서만 실행)
+     */
+    @Scheduled(cron = "${app.archive.cron:0 0 4 * * *}")
+    public void archiveExpiredPartitions() {
+        if (afterMonths <= 0) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, nodeId, Duration.ofSeconds(lockTtlSeconds)))) {
+            return;
+        }
+
+        try {
+            // 보존 기간으로 이미 분리된 파티션은 기간과 관계없이 보관
+            for (YearMonth month : careRecordPartitionService.detachedPartitions()) {
+                archivePartition(month, false);
+            }
+
+            YearMonth cutoff = YearMonth.now().minusMonths(afterMonths);
+            for (YearMonth month : careRecordPartitionService.partitionsBefore(cutoff)) {
+                archivePartition(month, true);
+            }
+        } catch (Exception e) {
+            log.error("Error archiving care records", e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), nodeId);
+        }
+    }
+
+    /**
+     * 월 파티션의 기록을 보관 테이블로 옮기고 삭제 표시를 남긴 뒤 파티션 삭제 (하나의 트랜잭션)
+     * @param attached false면 보존 기간으로 이미 분리된 파티션 테이블
+     * @return 보관된 기록 수
+     */
+    public long archivePartition(YearMonth month, boolean attached) {
+        String partition = CareRecordPartitionService.partitionName(month);
+        String selectSql = SELECT_BATCH_SQL.formatted(partition);
+        Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        Long archived = new TransactionTemplate(transactionManager).execute(status -> {
+            long count = 0;
+            long lastId = 0;
+
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(selectSql, (rs, rowNum) -> new Object[]{
+                        rs.getLong("id"),
+                        rs.getLong("care_subject_id"),
+                        rs.getString("record_type"),
+                        rs.getString("title"),
+                        rs.getString("description"),
+                        rs.getTimestamp("recorded_at"),
+                        RecordDataCompression.compress(rs.getString("record_data")),
+                        rs.getLong("recorded_by"),
+                        rs.getTimestamp("created_at"),
+                        rs.getTimestamp("updated_at"),
+                        rs.getLong("change_seq"),
+                        archivedAt
+                }, lastId, batchSize);
+
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                count += rows.size();
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+            }
+
+            List<Long> careSubjectIds = careRecordSyncService.recordArchived(partition);
+            careRecordPartitionService.dropPartition(month, attached);
+
+            // 커밋 후 대상별 버전/캐시 갱신 (ETag, 최근 기록)
+            careSubjectIds.forEach(careSubjectId -> eventPublisher.publishEvent(new CareRecordChangedEvent(
+                    careSubjectId, CareRecordChangedEvent.ChangeType.ARCHIVED, null)));
+            return count;
+        });
+
+        log.info("Archived {} care records from {}", archived, month);
+        return archived != null ? archived : 0;
+    }
+
+    /**
+     * 보관된 기록 조회 (커서 기반, 최신순)
+     * 기간이 없으면 전체 기간을 조회한다.
+     */
+    public List<CareRecordSummary> findArchivedBefore(
+            Long careSubjectId,
+            String careSubjectName,
+            CareRecordType recordType,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            CareRecordCursor position,
+            Pageable limit) {
+
+        // 최근 기록 조회와 같이 기간은 시작/종료가 모두 있을 때만 적용
+        if (startDate == null || endDate == null) {
+            startDate = EARLIEST;
+            endDate = position.recordedAt();
+        }
+
+        List<CareRecordArchive> archives = recordType != null
+                ? careRecordArchiveRepository.findByCareSubjectIdAndRecordTypeBefore(
+                        careSubjectId, recordType, startDate, endDate, position.recordedAt(), position.id(), limit)
+                : careRecordArchiveRepository.findByCareSubjectIdBefore(
+                        careSubjectId, startDate, endDate, position.recordedAt(), position.id(), limit);
+
+        if (archives.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> userNames = new HashMap<>();
+        for (User user : userRepository.findAllById(
+                archives.stream().map(CareRecordArchive::getRecordedById).distinct().toList())) {
+            userNames.put(user.getId(), user.getName());
+        }
+
+        List<CareRecordSummary> summaries = new ArrayList<>(archives.size());
+        for (CareRecordArchive archive : archives) {
+            summaries.add(new CareRecordSummary(
+                    archive.getId(),
+                    careSubjectId,
+                    careSubjectName,
+                    archive.getRecordType(),
+                    archive.getTitle(),
+                    archive.getDescription(),
+                    archive.getRecordedAt(),
+                    readRecordData(archive.getRecordDataGz()),
+                    archive.getRecordedById(),
+                    userNames.get(archive.getRecordedById()),
+                    archive.getCreatedAt(),
+                    archive.getUpdatedAt(),
+                    archive.getChangeSeq()));
+        }
+        return summaries;
+    }
+
+    private Map<String, Object> readRecordData(byte[] compressed) {
+        String json = RecordDataCompression.decompress(compressed);
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, RECORD_DATA_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted archived record data", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package carehub.domain.carerecord;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 케어 기록 변경 이벤트 (생성, 수정, 삭제, 보관/보존 기간 분리로 인한 제외)
+ * 케어 대상 단위 캐시를 갱신/무효화하는 데 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CareRecordChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED,
+        // 월 파티션이 보관되거나 분리되어 대상의 기록이 한꺼번에 빠진 경우
+        ARCHIVED
+    }
+
+    private final Long careSubjectId;
+    private final ChangeType changeType;
+    // 생성된 기록 (연관 엔티티가 로드된 경우에만, 그 외에는 null)
+    private final CareRecord careRecord;
+}
@@ -0,0 +1,53 @@
+package carehub.domain.carerecord;
+
+import carehub.common.exception.BusinessException;
+import carehub.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 케어 기록 목록 커서 (recordedAt, id)
+ * 클라이언트에는 불투명한 문자열로 전달된다.
+ */
+public record CareRecordCursor(LocalDateTime recordedAt, Long id) {
+
+    // 첫 페이지: 모든 기록보다 뒤에 위치하는 커서
+    private static final CareRecordCursor FIRST =
+            new CareRecordCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    public static CareRecordCursor first() {
+        return FIRST;
+    }
+
+    public static CareRecordCursor of(CareRecordSummary careRecord) {
+        return new CareRecordCursor(careRecord.recordedAt(), careRecord.id());
+    }
+
+    /**
+     * 커서 문자열 해석 (없으면 첫 페이지)
+     */
+    public static CareRecordCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new CareRecordCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = recordedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,52 @@
+package carehub.domain.carerecord;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 케어 대상 / 일자 / 기록 유형별 집계
+ * 케어 기록 생성/수정/삭제 시 같은 트랜잭션에서 증감분(upsert)으로 갱신된다.
+ */
+@Entity
+@Table(name = "care_record_daily_stats")
+@IdClass(CareRecordDailyStatId.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareRecordDailyStat {
+
+    @Id
+    @Column(name = "care_subject_id")
+    private Long careSubjectId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "record_type", length = 20)
+    private CareRecordType recordType;
+
+    @Column(name = "record_count", nullable = false)
+    private long recordCount;
+
+    // recordData.durationMinutes 합계 (수면 등)
+    @Column(name = "total_duration_minutes", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalDurationMinutes;
+
+    // recordData.amount 합계 (식사량 등)
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
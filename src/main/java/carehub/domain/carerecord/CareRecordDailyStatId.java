@@ -0,0 +1,17 @@
+package carehub.domain.carerecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareRecordDailyStatId implements Serializable {
+    private Long careSubjectId;
+    private LocalDate statDate;
+    private CareRecordType recordType;
+}
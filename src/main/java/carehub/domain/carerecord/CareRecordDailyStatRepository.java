@@ -0,0 +1,85 @@
+package carehub.domain.carerecord;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CareRecordDailyStatRepository extends JpaRepository<CareRecordDailyStat, CareRecordDailyStatId> {
+
+    /**
+     * 집계 증감분 반영 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO care_record_daily_stats " +
+            "(care_subject_id, stat_date, record_type, record_count, total_duration_minutes, total_amount, updated_at) " +
+            "VALUES (:careSubjectId, :statDate, :recordType, :countDelta, :durationDelta, :amountDelta, now()) " +
+            "ON CONFLICT (care_subject_id, stat_date, record_type) DO UPDATE SET " +
+            "record_count = care_record_daily_stats.record_count + EXCLUDED.record_count, " +
+            "total_duration_minutes = care_record_daily_stats.total_duration_minutes + EXCLUDED.total_duration_minutes, " +
+            "total_amount = care_record_daily_stats.total_amount + EXCLUDED.total_amount, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void upsertDelta(@Param("careSubjectId") Long careSubjectId,
+                     @Param("statDate") LocalDate statDate,
+                     @Param("recordType") String recordType,
+                     @Param("countDelta") long countDelta,
+                     @Param("durationDelta") BigDecimal durationDelta,
+                     @Param("amountDelta") BigDecimal amountDelta);
+
+    /**
+     * 기간별 집계 조회
+     */
+    @Query("SELECT s FROM CareRecordDailyStat s " +
+            "WHERE s.careSubjectId = :careSubjectId " +
+            "AND s.statDate >= :startDate AND s.statDate <= :endDate " +
+            "AND s.recordCount > 0 " +
+            "ORDER BY s.statDate, s.recordType")
+    List<CareRecordDailyStat> findByCareSubjectIdAndStatDateBetween(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간별 + 유형별 집계 조회
+     */
+    @Query("SELECT s FROM CareRecordDailyStat s " +
+            "WHERE s.careSubjectId = :careSubjectId AND s.recordType = :recordType " +
+            "AND s.statDate >= :startDate AND s.statDate <= :endDate " +
+            "AND s.recordCount > 0 " +
+            "ORDER BY s.statDate")
+    List<CareRecordDailyStat> findByCareSubjectIdAndRecordTypeAndStatDateBetween(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("recordType") CareRecordType recordType,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query(value = "DELETE FROM care_record_daily_stats " +
+            "WHERE care_subject_id = :careSubjectId AND stat_date >= :fromDate", nativeQuery = true)
+    int deleteByCareSubjectIdFrom(@Param("careSubjectId") Long careSubjectId,
+                                  @Param("fromDate") LocalDate fromDate);
+
+    /**
+     * 케어 기록 원본으로부터 지정한 일자 이후의 집계 재생성
+     * 수치 항목의 추출 규칙은 CareRecordStatsService와 동일해야 한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO care_record_daily_stats " +
+            "(care_subject_id, stat_date, record_type, record_count, total_duration_minutes, total_amount, updated_at) " +
+            "SELECT care_subject_id, CAST(recorded_at AS date), record_type, COUNT(*), " +
+            "COALESCE(SUM(CASE WHEN jsonb_typeof(record_data -> 'durationMinutes') = 'number' " +
+            "THEN CAST(record_data ->> 'durationMinutes' AS numeric) END), 0), " +
+            "COALESCE(SUM(CASE WHEN jsonb_typeof(record_data -> 'amount') = 'number' " +
+            "THEN CAST(record_data ->> 'amount' AS numeric) END), 0), " +
+            "now() " +
+            "FROM care_records WHERE care_subject_id = :careSubjectId AND recorded_at >= :fromDate " +
+            "GROUP BY care_subject_id, CAST(recorded_at AS date), record_type",
+            nativeQuery = true)
+    int rebuildByCareSubjectIdFrom(@Param("careSubjectId") Long careSubjectId,
+                                   @Param("fromDate") LocalDate fromDate);
+}
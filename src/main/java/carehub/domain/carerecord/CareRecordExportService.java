@@ -0,0 +1,222 @@
+package carehub.domain.carerecord;
+
+import carehub.common.exception.BusinessException;
+import carehub.common.exception.ErrorCode;
+import carehub.domain.caresubject.CareSubjectRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+
+/**
+ * 케어 기록 전체 내보내기 (NDJSON / CSV, 보관된 기록 포함)
+ * JPA 영속성 컨텍스트를 거치지 않고 JDBC 커서에서 fetch-size 단위로 읽어 바로 출력하므로
+ * 기록 수와 관계없이 메모리 사용량이 일정하다.
+ * 월 단위로 나누어 각각 짧은 트랜잭션에서 읽으므로, 느린 클라이언트가 전체 내보내기 동안
+ * 파티션 잠금(ACCESS SHARE)을 쥐고 파티션 관리/보관 작업을 막지 않는다.
+ */
+@Slf4j
+@Service
+public class CareRecordExportService {
+
+    // 내보낼 기간 (최근 기록과 보관된 기록 전체)
+    private static final String RANGE_SQL =
+            "SELECT MIN(min_at) AS min_at, MAX(max_at) AS max_at FROM (" +
+            "SELECT MIN(recorded_at) AS min_at, MAX(recorded_at) AS max_at FROM care_records " +
+            "WHERE care_subject_id = ? " +
+            "UNION ALL " +
+            "SELECT MIN(recorded_at), MAX(recorded_at) FROM care_records_archive " +
+            "WHERE care_subject_id = ?) r";
+
+    // 한 달 범위의 최근 기록과 보관된 기록(압축된 record_data_gz)을 합쳐 기록 시간 순으로 조회
+    private static final String EXPORT_SQL =
+            "SELECT cr.id, cr.record_type, cr.title, cr.description, cr.recorded_at, " +
+            "cr.record_data::text AS record_data, NULL::bytea AS record_data_gz, " +
+            "cr.recorded_by, u.name AS recorded_by_name, cr.created_at, cr.updated_at " +
+            "FROM care_records cr " +
+            "JOIN users u ON u.id = cr.recorded_by " +
+            "WHERE cr.care_subject_id = ? AND cr.recorded_at >= ? AND cr.recorded_at < ? " +
+            "UNION ALL " +
+            "SELECT a.id, a.record_type, a.title, a.description, a.recorded_at, " +
+            "NULL AS record_data, a.record_data_gz, " +
+            "a.recorded_by, u.name AS recorded_by_name, a.created_at, a.updated_at " +
+            "FROM care_records_archive a " +
+            "LEFT JOIN users u ON u.id = a.recorded_by " +
+            "WHERE a.care_subject_id = ? AND a.recorded_at >= ? AND a.recorded_at < ? " +
+            "ORDER BY recorded_at, id";
+
+    private static final String CSV_HEADER =
+            "id,recordType,title,description,recordedAt,recordData,recordedById,recordedByName,createdAt,updatedAt";
+
+    private final CareSubjectRepository careSubjectRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public CareRecordExportService(CareSubjectRepository careSubjectRepository,
+                                   ObjectMapper objectMapper,
+                                   DataSource dataSource,
+                                   @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.careSubjectRepository = careSubjectRepository;
+        this.objectMapper = objectMapper;
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+
+        // PostgreSQL은 자동 커밋이 꺼진 트랜잭션 안에서만 커서 단위로 가져온다 (JPA 트랜잭션과 분리)
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 내보내기 권한 확인 (스트리밍 시작 전에 호출)
+     */
+    public void checkExportable(Long careSubjectId, Long userId) {
+        careSubjectRepository.findByIdAndAccessibleByUserId(careSubjectId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "케어 대상을 찾을 수 없거나 접근 권한이 없습니다."));
+    }
+
+    /**
+     * 케어 대상의 전체 기록을 기록 시간 순으로 출력
+     */
+    public void export(Long careSubjectId, CareRecordExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long[] count = {0};
+
+        try {
+            if (format == CareRecordExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Timestamp[] range = jdbcTemplate.queryForObject(RANGE_SQL, (rs, rowNum) -> new Timestamp[]{
+                    rs.getTimestamp("min_at"), rs.getTimestamp("max_at")
+            }, careSubjectId, careSubjectId);
+
+            if (range != null && range[0] != null) {
+                YearMonth last = YearMonth.from(range[1].toLocalDateTime());
+                for (YearMonth month = YearMonth.from(range[0].toLocalDateTime());
+                     !month.isAfter(last); month = month.plusMonths(1)) {
+                    Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+                    Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+
+                    // 월마다 별도 트랜잭션 (커서는 트랜잭션 안에서만 유지됨)
+                    transactionTemplate.executeWithoutResult(status ->
+                            jdbcTemplate.query(EXPORT_SQL, rs -> {
+                                try {
+                                    if (format == CareRecordExportFormat.CSV) {
+                                        writeCsv(rs, writer);
+                                    } else {
+                                        writeJson(rs, writer);
+                                    }
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                                count[0]++;
+                            }, careSubjectId, from, to, careSubjectId, from, to));
+                }
+            }
+
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등
+            throw e.getCause();
+        }
+
+        log.info("케어 기록 내보내기 완료 - 케어 대상 ID: {}, 형식: {}, 건수: {}", careSubjectId, format, count[0]);
+    }
+
+    private void writeJson(ResultSet rs, Writer writer) throws SQLException, IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", rs.getLong("id"));
+        generator.writeStringField("recordType", rs.getString("record_type"));
+        generator.writeStringField("title", rs.getString("title"));
+        generator.writeStringField("description", rs.getString("description"));
+        generator.writeStringField("recordedAt", format(rs.getTimestamp("recorded_at")));
+
+        // jsonb는 파싱하지 않고 원문 그대로 출력
+        String recordData = recordData(rs);
+        generator.writeFieldName("recordData");
+        if (recordData != null) {
+            generator.writeRawValue(recordData);
+        } else {
+            generator.writeNull();
+        }
+
+        generator.writeNumberField("recordedById", rs.getLong("recorded_by"));
+        generator.writeStringField("recordedByName", rs.getString("recorded_by_name"));
+        generator.writeStringField("createdAt", format(rs.getTimestamp("created_at")));
+        generator.writeStringField("updatedAt", format(rs.getTimestamp("updated_at")));
+        generator.writeEndObject();
+        generator.flush();
+
+        writer.write('\n');
+    }
+
+    private void writeCsv(ResultSet rs, Writer writer) throws SQLException, IOException {
+        writer.write(rs.getString("id"));
+        writer.write(',');
+        writer.write(rs.getString("record_type"));
+        writer.write(',');
+        writer.write(csv(rs.getString("title")));
+        writer.write(',');
+        writer.write(csv(rs.getString("description")));
+        writer.write(',');
+        writer.write(format(rs.getTimestamp("recorded_at")));
+        writer.write(',');
+        writer.write(csv(recordData(rs)));
+        writer.write(',');
+        writer.write(rs.getString("recorded_by"));
+        writer.write(',');
+        writer.write(csv(rs.getString("recorded_by_name")));
+        writer.write(',');
+        writer.write(format(rs.getTimestamp("created_at")));
+        writer.write(',');
+        writer.write(format(rs.getTimestamp("updated_at")));
+        writer.write('\n');
+    }
+
+    private static String recordData(ResultSet rs) throws SQLException {
+        String recordData = rs.getString("record_data");
+        return recordData != null ? recordData : RecordDataCompression.decompress(rs.getBytes("record_data_gz"));
+    }
+
+    private static String format(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : "";
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        // 스프레드시트에서 수식으로 실행되지 않도록 앞에 ' 추가 (CSV injection)
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
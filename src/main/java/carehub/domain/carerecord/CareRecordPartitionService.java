@@ -0,0 +1,270 @@
+package carehub.domain.carerecord;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * care_records 월별 파티션 관리
+ * 과거 months-behind ~ 이후 months-ahead 개월의 파티션을 스케줄 작업에서만 미리 만든다.
+ * 파티션 DDL은 부모 테이블에 ACCESS EXCLUSIVE 잠금이 필요하므로 요청 처리 경로에서는 실행하지 않는다.
+ * 파티션이 없는 월의 기록은 기본 파티션(care_records_default)에 저장되며,
+ * 유지 작업이 해당 월 파티션을 만들면서 기록을 옮긴다.
+ * 보존 기간이 지난 파티션은 DELETE 대신 분리(DETACH)하며, 분리된 파티션은 보관 작업이 옮긴 뒤 삭제한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CareRecordPartitionService {
+
+    static final String PARENT_TABLE = "care_records";
+    static final String PARTITION_PREFIX = "care_records_p";
+    static final String DEFAULT_PARTITION = "care_records_default";
+
+    // 생성 컬럼을 제외한 care_records 컬럼 (기본 파티션에서 옮길 때 사용)
+    private static final String COLUMNS = "id, care_subject_id, record_type, title, description, recorded_at, " +
+            "record_data, recorded_by, created_at, updated_at, change_seq";
+
+    private static final String DEFAULT_MONTHS_SQL =
+            "SELECT DISTINCT CAST(date_trunc('month', recorded_at) AS DATE) FROM " + DEFAULT_PARTITION;
+
+    private static final String DEFAULT_HAS_ROWS_SQL =
+            "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE recorded_at >= ? AND recorded_at < ?)";
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String LIST_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = '" + PARENT_TABLE + "'";
+
+    // 보존 기간으로 분리되어 부모 테이블에 속하지 않은 파티션 테이블
+    private static final String LIST_DETACHED_SQL =
+            "SELECT c.relname FROM pg_class c " +
+            "WHERE c.relkind = 'r' AND c.relnamespace = current_schema()::regnamespace " +
+            "AND c.relname ~ '^" + PARTITION_PREFIX + "[0-9]{6}$' " +
+            "AND NOT EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.partition.months-behind:12}")
+    private int monthsBehind;
+
+    // DDL이 잠금을 기다리는 동안 다른 쿼리가 뒤에 쌓이지 않도록 대기 시간 제한
+    @Value("${app.partition.lock-timeout-ms:5000}")
+    private long lockTimeoutMillis;
+
+    // 0이면 분리하지 않음
+    @Value("${app.partition.retention-months:0}")
+    private int retentionMonths;
+
+    private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        try {
+            maintainPartitions();
+        } catch (DataAccessException e) {
+            log.warn("Could not prepare care record partitions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 유지 범위와 기본 파티션에 기록이 있는 월의 파티션 생성 및 보존 기간이 지난 파티션 분리
+     */
+    @Scheduled(cron = "${app.partition.maintenance-cron:0 0 2 * * *}")
+    public void maintainPartitions() {
+        refresh();
+
+        YearMonth current = YearMonth.now();
+        Set<YearMonth> months = new TreeSet<>();
+        for (int i = -monthsBehind(); i <= monthsAhead; i++) {
+            months.add(current.plusMonths(i));
+        }
+        // 분리된 채 보관을 기다리는 테이블과 이름이 겹치는 월은 보관 후 다음 작업에서 처리
+        List<YearMonth> detached = detachedPartitions();
+        jdbcTemplate.queryForList(DEFAULT_MONTHS_SQL, LocalDate.class).stream()
+                .map(YearMonth::from)
+                .filter(month -> !detached.contains(month))
+                .forEach(months::add);
+
+        for (YearMonth month : months) {
+            if (!knownPartitions.contains(month)) {
+                try {
+                    createPartition(month);
+                } catch (DataAccessException e) {
+                    log.error("Failed to create care record partition {}: {}", partitionName(month), e.getMessage());
+                }
+            }
+        }
+
+        if (retentionMonths > 0) {
+            detachPartitionsBefore(current.minusMonths(retentionMonths));
+        }
+    }
+
+    /**
+     * 지정한 월 이전의 파티션 분리 (데이터는 분리된 테이블에 남아 다음 보관 작업에서 옮겨진다)
+     * @return 분리된 파티션 테이블 이름
+     */
+    public List<String> detachPartitionsBefore(YearMonth cutoff) {
+        List<String> detached = new ArrayList<>();
+
+        for (YearMonth month : new TreeSet<>(knownPartitions)) {
+            if (!month.isBefore(cutoff)) {
+                break;
+            }
+
+            String partition = partitionName(month);
+            try {
+                inTransaction(() -> jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition));
+                knownPartitions.remove(month);
+                detached.add(partition);
+                log.info("Detached care record partition {}", partition);
+
+                // 분리된 기록은 조회에서 빠지므로 대상별 버전/캐시 갱신
+                jdbcTemplate.queryForList("SELECT DISTINCT care_subject_id FROM " + partition, Long.class)
+                        .forEach(careSubjectId -> eventPublisher.publishEvent(new CareRecordChangedEvent(
+                                careSubjectId, CareRecordChangedEvent.ChangeType.ARCHIVED, null)));
+            } catch (DataAccessException e) {
+                log.error("Failed to detach care record partition {}: {}", partition, e.getMessage());
+            }
+        }
+
+        return detached;
+    }
+
+    /**
+     * 지정한 월 이전의 파티션 목록 (오래된 순)
+     */
+    public List<YearMonth> partitionsBefore(YearMonth cutoff) {
+        refresh();
+        return new TreeSet<>(knownPartitions).headSet(cutoff).stream().toList();
+    }
+
+    /**
+     * 보존 기간으로 분리된 파티션 목록 (오래된 순, 아직 보관되지 않은 것)
+     */
+    public List<YearMonth> detachedPartitions() {
+        return jdbcTemplate.queryForList(LIST_DETACHED_SQL, String.class).stream()
+                .map(partition -> YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT))
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 파티션 분리 후 삭제 (호출자 트랜잭션에서 실행, 아카이브 완료 후 사용)
+     * @param attached false면 이미 분리된 파티션 테이블로 보고 삭제만 한다
+     */
+    public void dropPartition(YearMonth month, boolean attached) {
+        String partition = partitionName(month);
+        setLockTimeout();
+        if (attached) {
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+        }
+        jdbcTemplate.execute("DROP TABLE " + partition);
+        knownPartitions.remove(month);
+        log.info("Dropped care record partition {}", partition);
+    }
+
+    // 보존 기간으로 분리될 월은 다시 만들지 않음 (분리된 테이블과 이름이 겹침)
+    private int monthsBehind() {
+        return retentionMonths > 0 ? Math.min(monthsBehind, retentionMonths) : monthsBehind;
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    /**
+     * 월 파티션 생성
+     * 기본 파티션에 해당 월 기록이 있으면 같은 트랜잭션에서 꺼내 두었다가 새 파티션으로 다시 넣는다
+     * (기본 파티션에 범위가 겹치는 행이 남아 있으면 파티션 생성이 실패함).
+     */
+    private void createPartition(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        String range = " WHERE recorded_at >= '" + from + "' AND recorded_at < '" + to + "'";
+        String sql = "CREATE TABLE IF NOT EXISTS " + partitionName(month) +
+                " PARTITION OF " + PARENT_TABLE +
+                " FOR VALUES FROM ('" + from + "') TO ('" + to + "')";
+
+        try {
+            inTransaction(() -> {
+                boolean hasDefaultRows = Boolean.TRUE.equals(
+                        jdbcTemplate.queryForObject(DEFAULT_HAS_ROWS_SQL, Boolean.class, from, to));
+                if (!hasDefaultRows) {
+                    jdbcTemplate.execute(sql);
+                    return;
+                }
+
+                jdbcTemplate.execute("CREATE TEMP TABLE care_records_moving ON COMMIT DROP AS " +
+                        "SELECT " + COLUMNS + " FROM " + DEFAULT_PARTITION + range);
+                jdbcTemplate.execute("DELETE FROM " + DEFAULT_PARTITION + range);
+                jdbcTemplate.execute(sql);
+                int moved = jdbcTemplate.update("INSERT INTO " + PARENT_TABLE + " (" + COLUMNS + ") " +
+                        "SELECT " + COLUMNS + " FROM care_records_moving");
+                log.info("Moved {} care records from {} to {}", moved, DEFAULT_PARTITION, partitionName(month));
+            });
+            knownPartitions.add(month);
+            log.info("Created care record partition {}", partitionName(month));
+        } catch (DataAccessException e) {
+            // 다른 노드가 동시에 생성한 경우
+            refresh();
+            if (!knownPartitions.contains(month)) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 잠금 대기 시간을 제한한 별도 트랜잭션에서 DDL 실행
+     */
+    private void inTransaction(Runnable ddl) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            setLockTimeout();
+            ddl.run();
+        });
+    }
+
+    private void setLockTimeout() {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMillis);
+    }
+
+    private void refresh() {
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+
+        Set<YearMonth> months = new TreeSet<>();
+        for (String partition : partitions) {
+            if (partition.startsWith(PARTITION_PREFIX)) {
+                months.add(YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT));
+            }
+        }
+
+        knownPartitions.retainAll(months);
+        knownPartitions.addAll(months);
+    }
+}
@@ -0,0 +1,151 @@
+package carehub.domain.carerecord;
+
+import carehub.common.exception.BusinessException;
+import carehub.common.exception.ErrorCode;
+import carehub.web.dto.carerecord.CareRecordPatchResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 케어 기록 recordData 부분 수정 (JSON Merge Patch)
+ * 엔티티를 읽지 않고 DB에서 jsonb_merge_patch로 한 번의 UPDATE에 병합하며,
+ * 작성자/접근 권한과 버전(change_seq)이 일치할 때만 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CareRecordPatchService {
+
+    // 변경 순번 할당(케어 대상 행 잠금)을 기록 갱신보다 먼저 수행한다.
+    // 수정/삭제 경로도 엔티티를 건드리기 전에 순번을 할당하므로 모든 경로가 케어 대상 -> 기록 순으로 잠근다.
+    private static final String PATCH_SQL =
+            "WITH target AS (" +
+            "  SELECT cr.id, cr.recorded_at, cr.care_subject_id FROM care_records cr " +
+            "  JOIN care_subjects cs ON cs.id = cr.care_subject_id " +
+            "  WHERE cr.id = :recordId AND cr.recorded_by = :userId AND cr.change_seq = :version " +
+            "  AND (cs.created_by = :userId OR EXISTS (" +
+            "    SELECT 1 FROM guardians g WHERE g.care_subject_id = cs.id " +
+            "    AND g.user_id = :userId AND g.status = 'ACCEPTED'))" +
+            "), seq AS (" +
+            "  UPDATE care_subjects cs SET change_seq = cs.change_seq + 1 " +
+            "  FROM target t WHERE cs.id = t.care_subject_id " +
+            "  RETURNING cs.change_seq" +
+            ") " +
+            "UPDATE care_records cr " +
+            "SET record_data = jsonb_merge_patch(cr.record_data, CAST(:patch AS jsonb)), " +
+            "    change_seq = seq.change_seq, " +
+            "    updated_at = :now " +
+            "FROM target t, seq, care_records old " +
+            "WHERE cr.id = t.id AND cr.recorded_at = t.recorded_at AND cr.change_seq = :version " +
+            "AND old.id = t.id AND old.recorded_at = t.recorded_at " +
+            "RETURNING cr.change_seq, cr.care_subject_id, cr.recorded_at, cr.record_type, " +
+            numeric("old", CareRecordStatsService.DURATION_KEY) + " AS old_duration, " +
+            numeric("old", CareRecordStatsService.AMOUNT_KEY) + " AS old_amount, " +
+            numeric("cr", CareRecordStatsService.DURATION_KEY) + " AS new_duration, " +
+            numeric("cr", CareRecordStatsService.AMOUNT_KEY) + " AS new_amount";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CareRecordRepository careRecordRepository;
+    private final CareRecordStatsService careRecordStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private record PatchedRecord(long changeSeq, CareRecordStatsService.Contribution before,
+                                 CareRecordStatsService.Contribution after) {
+    }
+
+    /**
+     * recordData에 JSON Merge Patch 적용
+     * @param version 클라이언트가 마지막으로 조회한 기록의 changeSeq
+     * @return 새 버전
+     */
+    @Transactional
+    public CareRecordPatchResponse patchRecordData(Long recordId, long version, Map<String, Object> patch, Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("recordId", recordId)
+                .addValue("userId", userId)
+                .addValue("version", version)
+                .addValue("patch", toJson(patch))
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+
+        List<PatchedRecord> patched = jdbcTemplate.query(PATCH_SQL, params, (rs, rowNum) -> {
+            Long careSubjectId = rs.getLong("care_subject_id");
+            CareRecordType recordType = CareRecordType.valueOf(rs.getString("record_type"));
+            LocalDateTime recordedAt = rs.getTimestamp("recorded_at").toLocalDateTime();
+
+            return new PatchedRecord(
+                    rs.getLong("change_seq"),
+                    contribution(careSubjectId, recordedAt, recordType,
+                            rs.getBigDecimal("old_duration"), rs.getBigDecimal("old_amount")),
+                    contribution(careSubjectId, recordedAt, recordType,
+                            rs.getBigDecimal("new_duration"), rs.getBigDecimal("new_amount")));
+        });
+
+        if (patched.isEmpty()) {
+            throw patchFailure(recordId, userId);
+        }
+
+        PatchedRecord result = patched.get(0);
+        careRecordStatsService.recordUpdated(result.before(), result.after());
+        eventPublisher.publishEvent(new CareRecordChangedEvent(
+                result.after().careSubjectId(), CareRecordChangedEvent.ChangeType.UPDATED, null));
+        log.info("케어 기록 부분 수정 완료 - ID: {}, 버전: {}, 사용자: {}", recordId, result.changeSeq(), userId);
+
+        return CareRecordPatchResponse.builder()
+                .id(recordId)
+                .version(result.changeSeq())
+                .build();
+    }
+
+    /**
+     * 갱신된 행이 없을 때 원인 판별 (실패 경로에서만 조회)
+     */
+    private BusinessException patchFailure(Long recordId, Long userId) {
+        CareRecordAccess access = careRecordRepository.findAccessById(recordId, userId).orElse(null);
+
+        if (access == null) {
+            return new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "케어 기록을 찾을 수 없습니다.");
+        }
+        if (!access.accessible()) {
+            return new BusinessException(ErrorCode.ACCESS_DENIED, "케어 기록에 접근할 권한이 없습니다.");
+        }
+        if (!access.author()) {
+            return new BusinessException(ErrorCode.ACCESS_DENIED, "본인이 작성한 기록만 수정할 수 있습니다.");
+        }
+        return new BusinessException(ErrorCode.VERSION_CONFLICT);
+    }
+
+    private String toJson(Map<String, Object> patch) {
+        try {
+            return objectMapper.writeValueAsString(patch);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 패치 형식입니다.");
+        }
+    }
+
+    private static CareRecordStatsService.Contribution contribution(
+            Long careSubjectId, LocalDateTime recordedAt, CareRecordType recordType,
+            BigDecimal durationMinutes, BigDecimal amount) {
+        return new CareRecordStatsService.Contribution(
+                careSubjectId, recordedAt.toLocalDate(), recordType, 1, durationMinutes, amount);
+    }
+
+    // 집계 기준과 같이 숫자 값만 반영 (그 외는 0)
+    private static String numeric(String alias, String key) {
+        return "CASE WHEN jsonb_typeof(" + alias + ".record_data -> '" + key + "') = 'number' " +
+                "THEN (" + alias + ".record_data ->> '" + key + "')::numeric ELSE 0 END";
+    }
+}
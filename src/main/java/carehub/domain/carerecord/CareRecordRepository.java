@@ -7,28 +7,38 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CareRecordRepository extends JpaRepository<CareRecord, Long> {
 
+    /**
+     * 목록 조회용 프로젝션 (엔티티 대신 필요한 컬럼만 조회)
+     */
+    String SUMMARY_SELECT = "SELECT new carehub.domain.carerecord.CareRecordSummary(" +
+            "cr.id, cs.id, cs.name, cr.recordType, cr.title, cr.description, cr.recordedAt, " +
+            "cr.recordData, rb.id, rb.name, cr.createdAt, cr.updatedAt, cr.changeSeq) " +
+            "FROM CareRecord cr " +
+            "JOIN cr.careSubject cs " +
+            "JOIN cr.recordedBy rb ";
+
     /**
      * 특정 케어 대상의 기록 조회 (페이지네이션)
      */
-    @Query("SELECT cr FROM CareRecord cr " +
-            "LEFT JOIN FETCH cr.careSubject cs " +
-            "LEFT JOIN FETCH cr.recordedBy rb " +
-            "WHERE cs.id = :careSubjectId")
-    Page<CareRecord> findByCareSubjectId(@Param("careSubjectId") Long careSubjectId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT +
+            "WHERE cs.id = :careSubjectId",
+            countQuery = "SELECT COUNT(cr) FROM CareRecord cr WHERE cr.careSubject.id = :careSubjectId")
+    Page<CareRecordSummary> findByCareSubjectId(@Param("careSubjectId") Long careSubjectId, Pageable pageable);
 
     /**
      * 특정 케어 대상과 기록 유형으로 조회 (페이지네이션)
      */
-    @Query("SELECT cr FROM CareRecord cr " +
-            "LEFT JOIN FETCH cr.careSubject cs " +
-            "LEFT JOIN FETCH cr.recordedBy rb " +
-            "WHERE cs.id = :careSubjectId AND cr.recordType = :recordType")
-    Page<CareRecord> findByCareSubjectIdAndRecordType(
+    @Query(value = SUMMARY_SELECT +
+            "WHERE cs.id = :careSubjectId AND cr.recordType = :recordType",
+            countQuery = "SELECT COUNT(cr) FROM CareRecord cr " +
+                    "WHERE cr.careSubject.id = :careSubjectId AND cr.recordType = :recordType")
+    Page<CareRecordSummary> findByCareSubjectIdAndRecordType(
             @Param("careSubjectId") Long careSubjectId,
             @Param("recordType") CareRecordType recordType,
             Pageable pageable);
@@ -36,13 +46,14 @@ public interface CareRecordRepository extends JpaRepository<CareRecord, Long> {
     /**
      * 특정 케어 대상의 기간별 기록 조회 (페이지네이션)
      */
-    @Query("SELECT cr FROM CareRecord cr " +
-            "LEFT JOIN FETCH cr.careSubject cs " +
-            "LEFT JOIN FETCH cr.recordedBy rb " +
+    @Query(value = SUMMARY_SELECT +
             "WHERE cs.id = :careSubjectId " +
             "AND cr.recordedAt >= :startDate " +
-            "AND cr.recordedAt <= :endDate")
-    Page<CareRecord> findByCareSubjectIdAndRecordedAtBetween(
+            "AND cr.recordedAt <= :endDate",
+            countQuery = "SELECT COUNT(cr) FROM CareRecord cr " +
+                    "WHERE cr.careSubject.id = :careSubjectId " +
+                    "AND cr.recordedAt >= :startDate AND cr.recordedAt <= :endDate")
+    Page<CareRecordSummary> findByCareSubjectIdAndRecordedAtBetween(
             @Param("careSubjectId") Long careSubjectId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
@@ -51,20 +62,97 @@ public interface CareRecordRepository extends JpaRepository<CareRecord, Long> {
     /**
      * 특정 케어 대상의 기간별 및 유형별 기록 조회 (페이지네이션)
      */
-    @Query("SELECT cr FROM CareRecord cr " +
-            "LEFT JOIN FETCH cr.careSubject cs " +
-            "LEFT JOIN FETCH cr.recordedBy rb " +
+    @Query(value = SUMMARY_SELECT +
             "WHERE cs.id = :careSubjectId " +
             "AND cr.recordType = :recordType " +
             "AND cr.recordedAt >= :startDate " +
-            "AND cr.recordedAt <= :endDate")
-    Page<CareRecord> findByCareSubjectIdAndRecordTypeAndRecordedAtBetween(
+            "AND cr.recordedAt <= :endDate",
+            countQuery = "SELECT COUNT(cr) FROM CareRecord cr " +
+                    "WHERE cr.careSubject.id = :careSubjectId AND cr.recordType = :recordType " +
+                    "AND cr.recordedAt >= :startDate AND cr.recordedAt <= :endDate")
+    Page<CareRecordSummary> findByCareSubjectIdAndRecordTypeAndRecordedAtBetween(
             @Param("careSubjectId") Long careSubjectId,
             @Param("recordType") CareRecordType recordType,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable);
 
+    /**
+     * 특정 케어 대상의 기록 조회 (커서 기반, COUNT 쿼리 없음)
+     * (recordedAt, id)가 커서보다 앞선 기록을 최신순으로 조회한다.
+     * recordedAt 단독 조건은 파티션 프루닝을 위해 함께 둔다 (행 비교식은 프루닝에 쓰이지 않음).
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE cs.id = :careSubjectId " +
+            "AND cr.recordedAt <= :cursorRecordedAt AND (cr.recordedAt, cr.id) < (:cursorRecordedAt, :cursorId) " +
+            "ORDER BY cr.recordedAt DESC, cr.id DESC")
+    List<CareRecordSummary> findByCareSubjectIdBefore(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("cursorRecordedAt") LocalDateTime cursorRecordedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 특정 케어 대상과 기록 유형으로 조회 (커서 기반)
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE cs.id = :careSubjectId AND cr.recordType = :recordType " +
+            "AND cr.recordedAt <= :cursorRecordedAt AND (cr.recordedAt, cr.id) < (:cursorRecordedAt, :cursorId) " +
+            "ORDER BY cr.recordedAt DESC, cr.id DESC")
+    List<CareRecordSummary> findByCareSubjectIdAndRecordTypeBefore(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("recordType") CareRecordType recordType,
+            @Param("cursorRecordedAt") LocalDateTime cursorRecordedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 특정 케어 대상의 기간별 기록 조회 (커서 기반)
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE cs.id = :careSubjectId " +
+            "AND cr.recordedAt >= :startDate " +
+            "AND cr.recordedAt <= :endDate " +
+            "AND cr.recordedAt <= :cursorRecordedAt AND (cr.recordedAt, cr.id) < (:cursorRecordedAt, :cursorId) " +
+            "ORDER BY cr.recordedAt DESC, cr.id DESC")
+    List<CareRecordSummary> findByCareSubjectIdAndRecordedAtBetweenBefore(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("cursorRecordedAt") LocalDateTime cursorRecordedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 특정 케어 대상의 기간별 및 유형별 기록 조회 (커서 기반)
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE cs.id = :careSubjectId " +
+            "AND cr.recordType = :recordType " +
+            "AND cr.recordedAt >= :startDate " +
+            "AND cr.recordedAt <= :endDate " +
+            "AND cr.recordedAt <= :cursorRecordedAt AND (cr.recordedAt, cr.id) < (:cursorRecordedAt, :cursorId) " +
+            "ORDER BY cr.recordedAt DESC, cr.id DESC")
+    List<CareRecordSummary> findByCareSubjectIdAndRecordTypeAndRecordedAtBetweenBefore(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("recordType") CareRecordType recordType,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("cursorRecordedAt") LocalDateTime cursorRecordedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 변경 순번 이후에 생성/수정된 기록 조회 (동기화용, 변경 순서대로)
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE cs.id = :careSubjectId AND cr.changeSeq > :since " +
+            "ORDER BY cr.changeSeq")
+    List<CareRecordSummary> findChangedSince(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("since") Long since,
+            Pageable pageable);
+
     /**
      * ID와 케어 대상으로 단일 기록 조회 (권한 체크용)
      */
@@ -79,20 +167,41 @@ public interface CareRecordRepository extends JpaRepository<CareRecord, Long> {
     /**
      * 최근 기록 조회 (대시보드용)
      */
-    @Query("SELECT cr FROM CareRecord cr " +
-            "LEFT JOIN FETCH cr.careSubject cs " +
-            "LEFT JOIN FETCH cr.recordedBy rb " +
+    @Query(SUMMARY_SELECT +
             "WHERE cs.id = :careSubjectId " +
-            "ORDER BY cr.recordedAt DESC")
-    List<CareRecord> findRecentByCareSubjectId(@Param("careSubjectId") Long careSubjectId, Pageable pageable);
+            "ORDER BY cr.recordedAt DESC, cr.id DESC")
+    List<CareRecordSummary> findRecentByCareSubjectId(@Param("careSubjectId") Long careSubjectId, Pageable pageable);
 
     /**
-     * 사용자가 접근 가능한 기록인지 확인
+     * 단일 기록과 사용자의 접근 여부/작성자 여부를 한 번에 조회
+     * 케어 대상과 작성자를 함께 가져오며, 보호자 확인은 EXISTS로 처리한다.
      */
-    @Query("SELECT COUNT(cr) > 0 FROM CareRecord cr " +
-            "JOIN cr.careSubject cs " +
-            "LEFT JOIN cs.guardians g " +
-            "WHERE cr.id = :recordId " +
-            "AND (cs.createdBy.id = :userId OR (g.user.id = :userId AND g.status = 'ACCEPTED'))")
-    boolean isAccessibleByUser(@Param("recordId") Long recordId, @Param("userId") Long userId);
+    @Query("SELECT new carehub.domain.carerecord.CareRecordAccess(cr, " +
+            "CASE WHEN cs.createdBy.id = :userId OR EXISTS (" +
+            "SELECT 1 FROM Guardian g WHERE g.careSubject = cs AND g.user.id = :userId AND g.status = 'ACCEPTED'" +
+            ") THEN true ELSE false END, " +
+            "CASE WHEN rb.id = :userId THEN true ELSE false END) " +
+            "FROM CareRecord cr " +
+            "JOIN FETCH cr.careSubject cs " +
+            "JOIN FETCH cr.recordedBy rb " +
+            "WHERE cr.id = :recordId")
+    Optional<CareRecordAccess> findAccessById(@Param("recordId") Long recordId, @Param("userId") Long userId);
+
+    /**
+     * 기간 내 유형별 컬럼 집계 (jsonb 파싱 없이 생성 컬럼 사용)
+     */
+    @Query("SELECT new carehub.domain.carerecord.CareRecordTypedAggregate(" +
+            "cr.recordType, COALESCE(cr.feedingMethod, cr.diaperKind), COUNT(cr), " +
+            "SUM(cr.feedingAmount), SUM(cr.sleepMinutes), " +
+            "MIN(cr.healthTemperature), MAX(cr.healthTemperature), AVG(cr.healthTemperature)) " +
+            "FROM CareRecord cr " +
+            "WHERE cr.careSubject.id = :careSubjectId " +
+            "AND cr.recordType IN :recordTypes " +
+            "AND cr.recordedAt >= :startAt AND cr.recordedAt < :endAt " +
+            "GROUP BY cr.recordType, COALESCE(cr.feedingMethod, cr.diaperKind)")
+    List<CareRecordTypedAggregate> aggregateTypedColumns(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("recordTypes") Collection<CareRecordType> recordTypes,
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt);
 }
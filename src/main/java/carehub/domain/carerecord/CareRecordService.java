@@ -1,5 +1,6 @@
 package carehub.domain.carerecord;
 
+import carehub.common.dto.response.CursorResponse;
 import carehub.common.dto.response.PageResponse;
 import carehub.common.exception.BusinessException;
 import carehub.common.exception.ErrorCode;
@@ -7,11 +8,15 @@ import carehub.domain.caresubject.CareSubject;
 import carehub.domain.caresubject.CareSubjectRepository;
 import carehub.domain.user.User;
 import carehub.domain.user.UserRepository;
+import carehub.web.dto.carerecord.CareRecordBatchResponse;
 import carehub.web.dto.carerecord.CareRecordCreateRequest;
 import carehub.web.dto.carerecord.CareRecordResponse;
 import carehub.web.dto.carerecord.CareRecordUpdateRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,7 +25,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
@@ -31,6 +42,16 @@ public class CareRecordService {
     private final CareRecordRepository careRecordRepository;
     private final CareSubjectRepository careSubjectRepository;
     private final UserRepository userRepository;
+    private final CareRecordStatsService careRecordStatsService;
+    private final RecentCareRecordCache recentCareRecordCache;
+    private final CareRecordSyncService careRecordSyncService;
+    private final CareRecordArchiveService careRecordArchiveService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private static final String RECORDED_AT_IN_FUTURE = "기록 시간은 현재 이후일 수 없습니다";
 
     /**
      * 케어 기록 생성
@@ -49,6 +70,8 @@ public class CareRecordService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
+        checkWritable(request.getRecordedAt());
+
         // 케어 기록 생성
         CareRecord careRecord = CareRecord.builder()
                 .careSubject(careSubject)
@@ -58,14 +81,144 @@ public class CareRecordService {
                 .recordedAt(request.getRecordedAt())
                 .recordData(request.getRecordData())
                 .recordedBy(user)
+                .changeSeq(careRecordSyncService.allocate(careSubject.getId(), 1))
                 .build();
 
         CareRecord savedRecord = careRecordRepository.save(careRecord);
+        careRecordStatsService.recordCreated(savedRecord);
+        eventPublisher.publishEvent(new CareRecordChangedEvent(
+                careSubject.getId(), CareRecordChangedEvent.ChangeType.CREATED, savedRecord));
         log.info("케어 기록 생성 완료 - ID: {}, 제목: {}", savedRecord.getId(), savedRecord.getTitle());
 
         return savedRecord;
     }
 
+    /**
+     * 케어 기록 일괄 생성
+     * 케어 대상별 접근 권한은 한 번만 확인하고, 유효한 항목은 JDBC 배치로 한 번에 저장한다.
+     * 검증/권한 오류는 항목별 결과로 반환하며 나머지 항목은 그대로 저장된다.
+     */
+    @Transactional
+    public CareRecordBatchResponse createCareRecords(List<CareRecordCreateRequest> requests, Long userId) {
+        log.info("케어 기록 일괄 생성 시작 - 사용자 ID: {}, 건수: {}", userId, requests.size());
+
+        // 인증된 사용자이므로 조회 없이 참조만 사용
+        User user = userRepository.getReferenceById(userId);
+
+        Map<Long, Optional<CareSubject>> careSubjects = new HashMap<>();
+        CareRecordBatchResponse.ItemResult[] results = new CareRecordBatchResponse.ItemResult[requests.size()];
+        List<CareRecord> careRecords = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CareRecordCreateRequest request = requests.get(i);
+
+            String violation = validate(request);
+            if (violation != null) {
+                results[i] = CareRecordBatchResponse.ItemResult.failed(
+                        i, ErrorCode.INVALID_INPUT_VALUE.getCode(), violation);
+                continue;
+            }
+            String recordedAtViolation = recordedAtViolation(request.getRecordedAt());
+            if (recordedAtViolation != null) {
+                results[i] = CareRecordBatchResponse.ItemResult.failed(
+                        i, ErrorCode.INVALID_INPUT_VALUE.getCode(), recordedAtViolation);
+                continue;
+            }
+
+            Optional<CareSubject> careSubject = careSubjects.computeIfAbsent(request.getCareSubjectId(),
+                    careSubjectId -> careSubjectRepository.findByIdAndAccessibleByUserId(careSubjectId, userId));
+            if (careSubject.isEmpty()) {
+                results[i] = CareRecordBatchResponse.ItemResult.failed(
+                        i, ErrorCode.RESOURCE_NOT_FOUND.getCode(), "케어 대상을 찾을 수 없거나 접근 권한이 없습니다.");
+                continue;
+            }
+
+            careRecords.add(CareRecord.builder()
+                    .careSubject(careSubject.get())
+                    .recordType(request.getRecordType())
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .recordedAt(request.getRecordedAt())
+                    .recordData(request.getRecordData())
+                    .recordedBy(user)
+                    .build());
+            indexes.add(i);
+        }
+
+        assignChangeSeqs(careRecords);
+
+        // ID는 시퀀스에서 미리 할당되므로 INSERT가 배치로 전송된다
+        List<CareRecord> savedRecords = careRecordRepository.saveAll(careRecords);
+        careRecordStatsService.recordCreated(savedRecords);
+        // 실제로 기록이 저장된 케어 대상만 갱신
+        savedRecords.stream()
+                .map(careRecord -> careRecord.getCareSubject().getId())
+                .distinct()
+                .forEach(careSubjectId -> eventPublisher.publishEvent(new CareRecordChangedEvent(
+                        careSubjectId, CareRecordChangedEvent.ChangeType.CREATED, null)));
+        for (int i = 0; i < savedRecords.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = CareRecordBatchResponse.ItemResult.created(index, savedRecords.get(i).getId());
+        }
+
+        log.info("케어 기록 일괄 생성 완료 - 성공: {}, 실패: {}",
+                savedRecords.size(), requests.size() - savedRecords.size());
+
+        return CareRecordBatchResponse.builder()
+                .createdCount(savedRecords.size())
+                .failedCount(requests.size() - savedRecords.size())
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * 케어 대상별로 변경 순번을 한 번에 할당 (대상 ID 순서로 잠금)
+     */
+    private void assignChangeSeqs(List<CareRecord> careRecords) {
+        Map<Long, List<CareRecord>> bySubject = new TreeMap<>();
+        careRecords.forEach(careRecord -> bySubject
+                .computeIfAbsent(careRecord.getCareSubject().getId(), id -> new ArrayList<>())
+                .add(careRecord));
+
+        bySubject.forEach((careSubjectId, records) -> {
+            long changeSeq = careRecordSyncService.allocate(careSubjectId, records.size());
+            for (CareRecord careRecord : records) {
+                careRecord.setChangeSeq(changeSeq++);
+            }
+        });
+    }
+
+    /**
+     * 기록 시간이 현재 이후가 아닌지 확인
+     * 과거 기록은 기간 제한 없이 저장된다 (파티션이 없는 월은 기본 파티션에 저장됨).
+     */
+    private void checkWritable(LocalDateTime recordedAt) {
+        String violation = recordedAtViolation(recordedAt);
+        if (violation != null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, violation);
+        }
+    }
+
+    private String recordedAtViolation(LocalDateTime recordedAt) {
+        if (recordedAt.isAfter(LocalDateTime.now())) {
+            return RECORDED_AT_IN_FUTURE;
+        }
+        return null;
+    }
+
+    private String validate(CareRecordCreateRequest request) {
+        if (request == null) {
+            return "기록 항목이 비어 있습니다";
+        }
+
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
     /**
      * 케어 기록 목록 조회 (페이지네이션)
      */
@@ -84,9 +237,9 @@ public class CareRecordService {
                         "케어 대상을 찾을 수 없거나 접근 권한이 없습니다."));
 
         // 정렬 설정 (최신순)
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "recordedAt"));
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "recordedAt", "id"));
 
-        Page<CareRecord> recordPage;
+        Page<CareRecordSummary> recordPage;
 
         // 조건에 따른 쿼리 실행
         if (recordType != null && startDate != null && endDate != null) {
@@ -118,17 +271,135 @@ public class CareRecordService {
                 .build();
     }
 
+    /**
+     * 케어 기록 목록 조회 (커서 기반)
+     * 오프셋/COUNT 없이 (recordedAt, id) 기준으로 다음 페이지를 조회한다.
+     */
+    public CursorResponse<CareRecordResponse> getCareRecordsByCursor(
+            Long careSubjectId,
+            CareRecordType recordType,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String cursor,
+            int size,
+            Long userId) {
+
+        // 케어 대상 접근 권한 확인
+        careSubjectRepository.findByIdAndAccessibleByUserId(careSubjectId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "케어 대상을 찾을 수 없거나 접근 권한이 없습니다."));
+
+        CareRecordCursor position = CareRecordCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CareRecordSummary> records = findBefore(careSubjectId, recordType, startDate, endDate, position, limit);
+
+        boolean hasNext = records.size() > pageSize;
+        List<CareRecordSummary> page = hasNext ? records.subList(0, pageSize) : records;
+
+        // 응답 변환
+        List<CareRecordResponse> responseList = page.stream()
+                .map(CareRecordResponse::from)
+                .toList();
+
+        return CursorResponse.<CareRecordResponse>builder()
+                .content(responseList)
+                .size(pageSize)
+                .nextCursor(hasNext ? CareRecordCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 케어 기록 이력 조회 (커서 기반)
+     * 최근 기록과 보관된 기록을 (recordedAt, id) 순서로 합쳐 하나의 목록처럼 조회한다.
+     */
+    public CursorResponse<CareRecordResponse> getCareRecordHistory(
+            Long careSubjectId,
+            CareRecordType recordType,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String cursor,
+            int size,
+            Long userId) {
+
+        // 케어 대상 접근 권한 확인
+        CareSubject careSubject = careSubjectRepository.findByIdAndAccessibleByUserId(careSubjectId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "케어 대상을 찾을 수 없거나 접근 권한이 없습니다."));
+
+        CareRecordCursor position = CareRecordCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CareRecordSummary> records = new ArrayList<>(
+                findBefore(careSubjectId, recordType, startDate, endDate, position, limit));
+        records.addAll(careRecordArchiveService.findArchivedBefore(
+                careSubjectId, careSubject.getName(), recordType, startDate, endDate, position, limit));
+        records.sort(Comparator.comparing(CareRecordSummary::recordedAt)
+                .thenComparing(CareRecordSummary::id)
+                .reversed());
+
+        boolean hasNext = records.size() > pageSize;
+        List<CareRecordSummary> page = hasNext ? records.subList(0, pageSize) : records;
+
+        return CursorResponse.<CareRecordResponse>builder()
+                .content(page.stream().map(CareRecordResponse::from).toList())
+                .size(pageSize)
+                .nextCursor(hasNext ? CareRecordCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private List<CareRecordSummary> findBefore(
+            Long careSubjectId,
+            CareRecordType recordType,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            CareRecordCursor position,
+            Pageable limit) {
+
+        List<CareRecordSummary> records;
+
+        // 조건에 따른 쿼리 실행
+        if (recordType != null && startDate != null && endDate != null) {
+            records = careRecordRepository.findByCareSubjectIdAndRecordTypeAndRecordedAtBetweenBefore(
+                    careSubjectId, recordType, startDate, endDate, position.recordedAt(), position.id(), limit);
+        } else if (recordType != null) {
+            records = careRecordRepository.findByCareSubjectIdAndRecordTypeBefore(
+                    careSubjectId, recordType, position.recordedAt(), position.id(), limit);
+        } else if (startDate != null && endDate != null) {
+            records = careRecordRepository.findByCareSubjectIdAndRecordedAtBetweenBefore(
+                    careSubjectId, startDate, endDate, position.recordedAt(), position.id(), limit);
+        } else {
+            records = careRecordRepository.findByCareSubjectIdBefore(
+                    careSubjectId, position.recordedAt(), position.id(), limit);
+        }
+
+        return records;
+    }
+
     /**
      * 케어 기록 상세 조회
      */
     public CareRecord getCareRecord(Long recordId, Long userId) {
-        // 접근 권한 확인
-        if (!careRecordRepository.isAccessibleByUser(recordId, userId)) {
-            throw new BusinessException(ErrorCode.ACCESS_DENIED, "케어 기록에 접근할 권한이 없습니다.");
-        }
+        return getCareRecordAccess(recordId, userId).careRecord();
+    }
 
-        return careRecordRepository.findById(recordId)
+    /**
+     * 기록 조회 및 접근 권한 확인 (작성자 여부 포함, 쿼리 1회)
+     */
+    private CareRecordAccess getCareRecordAccess(Long recordId, Long userId) {
+        CareRecordAccess access = careRecordRepository.findAccessById(recordId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "케어 기록을 찾을 수 없습니다."));
+
+        if (!access.accessible()) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED, "케어 기록에 접근할 권한이 없습니다.");
+        }
+        return access;
     }
 
     /**
@@ -137,13 +408,23 @@ public class CareRecordService {
     @Transactional
     public CareRecord updateCareRecord(Long recordId, CareRecordUpdateRequest request, Long userId) {
         // 기록 조회 및 권한 확인
-        CareRecord careRecord = getCareRecord(recordId, userId);
+        CareRecordAccess access = getCareRecordAccess(recordId, userId);
 
         // 작성자만 수정 가능
-        if (!careRecord.getRecordedBy().getId().equals(userId)) {
+        if (!access.author()) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED, "본인이 작성한 기록만 수정할 수 있습니다.");
         }
 
+        CareRecord careRecord = access.careRecord();
+        if (request.getRecordedAt() != null) {
+            checkWritable(request.getRecordedAt());
+        }
+
+        CareRecordStatsService.Contribution before = careRecordStatsService.contributionOf(careRecord);
+
+        // 엔티티를 변경하기 전에 순번 할당 (케어 대상 -> 기록 순으로 잠가 부분 수정과 잠금 순서를 맞춤)
+        careRecord.setChangeSeq(careRecordSyncService.allocate(before.careSubjectId(), 1));
+
         // 수정 가능한 필드 업데이트
         if (request.getTitle() != null) {
             careRecord.setTitle(request.getTitle());
@@ -159,6 +440,9 @@ public class CareRecordService {
         }
 
         CareRecord updatedRecord = careRecordRepository.save(careRecord);
+        careRecordStatsService.recordUpdated(before, updatedRecord);
+        eventPublisher.publishEvent(new CareRecordChangedEvent(
+                before.careSubjectId(), CareRecordChangedEvent.ChangeType.UPDATED, null));
         log.info("케어 기록 수정 완료 - ID: {}, 사용자: {}", recordId, userId);
 
         return updatedRecord;
@@ -170,31 +454,54 @@ public class CareRecordService {
     @Transactional
     public void deleteCareRecord(Long recordId, Long userId) {
         // 기록 조회 및 권한 확인
-        CareRecord careRecord = getCareRecord(recordId, userId);
+        CareRecordAccess access = getCareRecordAccess(recordId, userId);
 
         // 작성자만 삭제 가능
-        if (!careRecord.getRecordedBy().getId().equals(userId)) {
+        if (!access.author()) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED, "본인이 작성한 기록만 삭제할 수 있습니다.");
         }
 
+        CareRecord careRecord = access.careRecord();
+
+        // 삭제 표시(순번 할당)를 먼저 기록해 케어 대상 -> 기록 순으로 잠금
+        careRecordSyncService.recordDeleted(careRecord);
         careRecordRepository.delete(careRecord);
+        careRecordStatsService.recordDeleted(careRecord);
+        eventPublisher.publishEvent(new CareRecordChangedEvent(
+                careRecord.getCareSubject().getId(), CareRecordChangedEvent.ChangeType.DELETED, null));
         log.info("케어 기록 삭제 완료 - ID: {}, 사용자: {}", recordId, userId);
     }
 
     /**
      * 최근 케어 기록 조회 (대시보드용)
+     * 캐시에 접근이 확인된 사용자로 등록되어 있으면 DB 조회 없이 반환한다.
      */
     public List<CareRecordResponse> getRecentCareRecords(Long careSubjectId, int limit, Long userId) {
+        List<CareRecordResponse> cached = recentCareRecordCache.find(careSubjectId, userId, limit);
+        if (cached != null) {
+            return cached;
+        }
+
+        long cacheVersion = recentCareRecordCache.version();
+
         // 케어 대상 접근 권한 확인
         careSubjectRepository.findByIdAndAccessibleByUserId(careSubjectId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
                         "케어 대상을 찾을 수 없거나 접근 권한이 없습니다."));
 
-        Pageable pageable = PageRequest.of(0, limit);
-        List<CareRecord> records = careRecordRepository.findRecentByCareSubjectId(careSubjectId, pageable);
+        // 캐시를 채울 수 있도록 버퍼 크기만큼 조회
+        int capacity = recentCareRecordCache.getCapacity();
+        Pageable pageable = PageRequest.of(0, Math.max(limit, capacity));
+        List<CareRecordSummary> records = careRecordRepository.findRecentByCareSubjectId(careSubjectId, pageable);
 
-        return records.stream()
+        List<CareRecordResponse> responses = records.stream()
                 .map(CareRecordResponse::from)
                 .toList();
+
+        if (limit <= capacity) {
+            recentCareRecordCache.store(careSubjectId, userId, responses, cacheVersion);
+        }
+
+        return responses.subList(0, Math.min(limit, responses.size()));
     }
 }
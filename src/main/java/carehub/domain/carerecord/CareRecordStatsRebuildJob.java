@@ -0,0 +1,43 @@
+package carehub.domain.carerecord;
+
+import carehub.domain.caresubject.CareSubjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 케어 기록 일별 집계 재생성 (백필/보정용)
+ * app.stats.rebuild-on-startup=true 로 기동하면 모든 케어 대상의 집계를 대상별 트랜잭션으로 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.stats.rebuild-on-startup", havingValue = "true")
+public class CareRecordStatsRebuildJob implements ApplicationRunner {
+
+    private final CareSubjectRepository careSubjectRepository;
+    private final CareRecordStatsService careRecordStatsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> careSubjectIds = careSubjectRepository.findAllIds();
+        log.info("케어 기록 집계 재생성 시작 - 대상 수: {}", careSubjectIds.size());
+
+        int failed = 0;
+        for (Long careSubjectId : careSubjectIds) {
+            try {
+                careRecordStatsService.rebuild(careSubjectId);
+            } catch (Exception e) {
+                failed++;
+                log.error("케어 기록 집계 재생성 실패 - 케어 대상 ID: {}", careSubjectId, e);
+            }
+        }
+
+        log.info("케어 기록 집계 재생성 완료 - 성공: {}, 실패: {}", careSubjectIds.size() - failed, failed);
+    }
+}
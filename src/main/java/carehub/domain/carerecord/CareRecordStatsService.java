@@ -0,0 +1,257 @@
+package carehub.domain.carerecord;
+
+import carehub.common.exception.BusinessException;
+import carehub.common.exception.ErrorCode;
+import carehub.domain.caresubject.CareSubjectRepository;
+import carehub.web.dto.carerecord.CareRecordDailyStatResponse;
+import carehub.web.dto.carerecord.CareRecordTypedSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 케어 기록 일별 집계
+ * 기록 변경 시 호출자 트랜잭션 안에서 증감분을 반영하고, 조회는 집계 테이블만 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CareRecordStatsService {
+
+    static final String DURATION_KEY = "durationMinutes";
+    static final String AMOUNT_KEY = "amount";
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    // 보관된 기록이 없을 때의 재생성 시작일
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1900, 1, 1);
+
+    // 유형별 생성 컬럼이 있는 기록 유형
+    private static final List<CareRecordType> TYPED_RECORD_TYPES = List.of(
+            CareRecordType.FEEDING, CareRecordType.SLEEP, CareRecordType.DIAPER, CareRecordType.HEALTH);
+
+    private static final String UNSPECIFIED_KIND = "UNSPECIFIED";
+
+    private static final Comparator<Contribution> KEY_ORDER = Comparator
+            .comparing(Contribution::careSubjectId)
+            .thenComparing(Contribution::statDate)
+            .thenComparing(Contribution::recordType);
+
+    private final CareRecordDailyStatRepository dailyStatRepository;
+    private final CareRecordArchiveRepository careRecordArchiveRepository;
+    private final CareRecordRepository careRecordRepository;
+    private final CareSubjectRepository careSubjectRepository;
+
+    /**
+     * 기록 1건이 집계에 기여하는 값
+     */
+    public record Contribution(Long careSubjectId, LocalDate statDate, CareRecordType recordType,
+                               long count, BigDecimal durationMinutes, BigDecimal amount) {
+
+        static Contribution of(CareRecord careRecord) {
+            Map<String, Object> recordData = careRecord.getRecordData();
+            return new Contribution(
+                    careRecord.getCareSubject().getId(),
+                    careRecord.getRecordedAt().toLocalDate(),
+                    careRecord.getRecordType(),
+                    1,
+                    number(recordData, DURATION_KEY),
+                    number(recordData, AMOUNT_KEY));
+        }
+
+        Contribution negate() {
+            return new Contribution(careSubjectId, statDate, recordType, -count, durationMinutes.negate(), amount.negate());
+        }
+
+        Contribution plus(Contribution other) {
+            return new Contribution(careSubjectId, statDate, recordType, count + other.count,
+                    durationMinutes.add(other.durationMinutes), amount.add(other.amount));
+        }
+
+        boolean sameKey(Contribution other) {
+            return careSubjectId.equals(other.careSubjectId)
+                    && statDate.equals(other.statDate)
+                    && recordType == other.recordType;
+        }
+
+        private static BigDecimal number(Map<String, Object> recordData, String key) {
+            Object value = recordData != null ? recordData.get(key) : null;
+            return value instanceof Number number ? new BigDecimal(number.toString()) : BigDecimal.ZERO;
+        }
+    }
+
+    public Contribution contributionOf(CareRecord careRecord) {
+        return Contribution.of(careRecord);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(CareRecord careRecord) {
+        apply(List.of(Contribution.of(careRecord)));
+    }
+
+    /**
+     * 일괄 생성: 같은 (대상, 일자, 유형)은 합쳐서 한 번만 upsert
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<CareRecord> careRecords) {
+        apply(careRecords.stream().map(Contribution::of).toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Contribution before, CareRecord after) {
+        recordUpdated(before, Contribution.of(after));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Contribution before, Contribution current) {
+        if (current.equals(before)) {
+            return;
+        }
+        apply(List.of(before.negate(), current));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(CareRecord careRecord) {
+        apply(List.of(Contribution.of(careRecord).negate()));
+    }
+
+    private void apply(List<Contribution> contributions) {
+        // 키 순서로 정렬해 동시 갱신 시 교착 상태를 피한다
+        Map<Contribution, Contribution> merged = new TreeMap<>(KEY_ORDER);
+        contributions.forEach(contribution -> merged.merge(contribution, contribution, Contribution::plus));
+
+        merged.values().forEach(delta -> {
+            if (delta.count() == 0 && delta.durationMinutes().signum() == 0 && delta.amount().signum() == 0) {
+                return;
+            }
+            dailyStatRepository.upsertDelta(delta.careSubjectId(), delta.statDate(), delta.recordType().name(),
+                    delta.count(), delta.durationMinutes(), delta.amount());
+        });
+    }
+
+    /**
+     * 일별 집계 조회 (집계 테이블만 사용)
+     */
+    public List<CareRecordDailyStatResponse> getDailyStats(
+            Long careSubjectId,
+            CareRecordType recordType,
+            LocalDate startDate,
+            LocalDate endDate,
+            Long userId) {
+
+        if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "조회 기간은 시작일부터 최대 " + MAX_RANGE_DAYS + "일까지 가능합니다.");
+        }
+
+        // 케어 대상 접근 권한 확인
+        careSubjectRepository.findByIdAndAccessibleByUserId(careSubjectId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "케어 대상을 찾을 수 없거나 접근 권한이 없습니다."));
+
+        List<CareRecordDailyStat> stats = recordType != null
+                ? dailyStatRepository.findByCareSubjectIdAndRecordTypeAndStatDateBetween(
+                        careSubjectId, recordType, startDate, endDate)
+                : dailyStatRepository.findByCareSubjectIdAndStatDateBetween(careSubjectId, startDate, endDate);
+
+        return stats.stream()
+                .map(CareRecordDailyStatResponse::from)
+                .toList();
+    }
+
+    /**
+     * 기간별 유형 상세 요약 (유형별 생성 컬럼 집계, 종료일 포함)
+     */
+    public CareRecordTypedSummaryResponse getTypedSummary(
+            Long careSubjectId,
+            LocalDate startDate,
+            LocalDate endDate,
+            Long userId) {
+
+        if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "조회 기간은 시작일부터 최대 " + MAX_RANGE_DAYS + "일까지 가능합니다.");
+        }
+
+        // 케어 대상 접근 권한 확인
+        careSubjectRepository.findByIdAndAccessibleByUserId(careSubjectId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "케어 대상을 찾을 수 없거나 접근 권한이 없습니다."));
+
+        List<CareRecordTypedAggregate> aggregates = careRecordRepository.aggregateTypedColumns(
+                careSubjectId, TYPED_RECORD_TYPES, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+
+        CareRecordTypedSummaryResponse summary = CareRecordTypedSummaryResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .feedingTotalAmount(BigDecimal.ZERO)
+                .feedingCountByMethod(new TreeMap<>())
+                .sleepTotalMinutes(BigDecimal.ZERO)
+                .diaperCountByKind(new TreeMap<>())
+                .build();
+
+        for (CareRecordTypedAggregate aggregate : aggregates) {
+            String kind = aggregate.kind() != null ? aggregate.kind() : UNSPECIFIED_KIND;
+
+            switch (aggregate.recordType()) {
+                case FEEDING -> {
+                    summary.setFeedingCount(summary.getFeedingCount() + aggregate.count());
+                    summary.setFeedingTotalAmount(summary.getFeedingTotalAmount().add(orZero(aggregate.totalAmount())));
+                    summary.getFeedingCountByMethod().merge(kind, aggregate.count(), Long::sum);
+                }
+                case SLEEP -> {
+                    summary.setSleepCount(summary.getSleepCount() + aggregate.count());
+                    summary.setSleepTotalMinutes(summary.getSleepTotalMinutes().add(orZero(aggregate.totalSleepMinutes())));
+                }
+                case DIAPER -> {
+                    summary.setDiaperCount(summary.getDiaperCount() + aggregate.count());
+                    summary.getDiaperCountByKind().merge(kind, aggregate.count(), Long::sum);
+                }
+                case HEALTH -> {
+                    // HEALTH는 세부 구분이 없으므로 1행
+                    summary.setHealthCount(aggregate.count());
+                    summary.setMinTemperature(aggregate.minTemperature());
+                    summary.setMaxTemperature(aggregate.maxTemperature());
+                    summary.setAvgTemperature(aggregate.avgTemperature());
+                }
+                default -> {
+                }
+            }
+        }
+
+        return summary;
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    /**
+     * 케어 대상의 집계를 원본 기록으로부터 다시 생성
+     * 보관된 기록은 recordData가 압축되어 있어 다시 집계할 수 없으므로,
+     * 마지막 보관 기록 다음 날부터만 지우고 다시 만든다 (보관된 기간의 집계는 그대로 유지).
+     */
+    @Transactional
+    public int rebuild(Long careSubjectId) {
+        LocalDateTime archivedUntil = careRecordArchiveRepository.findLatestRecordedAt(careSubjectId);
+        LocalDate fromDate = archivedUntil != null ? archivedUntil.toLocalDate().plusDays(1) : EARLIEST_DATE;
+
+        dailyStatRepository.deleteByCareSubjectIdFrom(careSubjectId, fromDate);
+        int rows = dailyStatRepository.rebuildByCareSubjectIdFrom(careSubjectId, fromDate);
+        log.debug("케어 기록 집계 재생성 - 케어 대상 ID: {}, 시작일: {}, 행 수: {}", careSubjectId, fromDate, rows);
+        return rows;
+    }
+}
@@ -0,0 +1,24 @@
+package carehub.domain.carerecord;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 케어 기록 목록 조회용 읽기 전용 프로젝션
+ * 응답에 필요한 컬럼만 조회하며 영속성 컨텍스트에 등록되지 않는다.
+ */
+public record CareRecordSummary(
+        Long id,
+        Long careSubjectId,
+        String careSubjectName,
+        CareRecordType recordType,
+        String title,
+        String description,
+        LocalDateTime recordedAt,
+        Map<String, Object> recordData,
+        Long recordedById,
+        String recordedByName,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long changeSeq) {
+}
@@ -0,0 +1,204 @@
+package carehub.domain.carerecord;
+
+import carehub.common.exception.BusinessException;
+import carehub.common.exception.ErrorCode;
+import carehub.domain.caresubject.CareSubjectRepository;
+import carehub.web.dto.carerecord.CareRecordResponse;
+import carehub.web.dto.carerecord.CareRecordSyncResponse;
+import carehub.web.dto.carerecord.CareRecordSyncResponse.Change;
+import carehub.web.dto.carerecord.CareRecordSyncResponse.ChangeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 케어 기록 증분 동기화
+ * 기록의 생성/수정/삭제마다 케어 대상 단위 변경 순번을 부여하고,
+ * 클라이언트는 마지막으로 받은 순번 이후의 변경(upsert + 삭제 표시)만 받아간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CareRecordSyncService {
+
+    private static final int MAX_SYNC_LIMIT = 500;
+
+    // 케어 대상의 변경 순번을 count만큼 할당하고 마지막 순번 반환
+    // 대상 행 잠금이 커밋까지 유지되므로 같은 대상의 변경은 순번 순서대로 커밋된다.
+    private static final String ALLOCATE_SQL =
+            "UPDATE care_subjects SET change_seq = change_seq + ? WHERE id = ? RETURNING change_seq";
+
+    // 보존 기간이 지난 삭제 표시 정리
+    // 정리된 가장 큰 순번을 케어 대상의 compacted_seq로 기록해 재동기화 필요 여부를 판단한다.
+    private static final String COMPACT_SQL =
+            "WITH deleted AS (" +
+            "DELETE FROM care_record_tombstones WHERE deleted_at < ? " +
+            "RETURNING care_subject_id, change_seq), " +
+            "compacted AS (" +
+            "UPDATE care_subjects cs SET compacted_seq = GREATEST(cs.compacted_seq, d.max_seq) " +
+            "FROM (SELECT care_subject_id, MAX(change_seq) AS max_seq FROM deleted GROUP BY care_subject_id) d " +
+            "WHERE cs.id = d.care_subject_id) " +
+            "SELECT COUNT(*) FROM deleted";
+
+    // 삭제 표시 기록 (ID가 기록 ID로 지정되어 있어 JPA save는 merge 전 SELECT를 한 번 더 실행하므로 직접 삽입)
+    private static final String INSERT_TOMBSTONE_SQL =
+            "INSERT INTO care_record_tombstones (record_id, care_subject_id, change_seq, deleted_at) " +
+            "VALUES (?, ?, ?, ?)";
+
+    // 보관으로 빠지는 기록의 케어 대상 행을 ID 순서로 잠금 (일괄 생성과 같은 순서)
+    private static final String LOCK_SUBJECTS_SQL =
+            "SELECT id FROM care_subjects WHERE id IN (SELECT DISTINCT care_subject_id FROM %s) " +
+            "ORDER BY id FOR UPDATE";
+
+    // 테이블의 모든 기록에 대해 대상별로 순번을 한 번에 할당하고 삭제 표시 기록
+    private static final String TOMBSTONE_TABLE_SQL =
+            "WITH counts AS (" +
+            "SELECT care_subject_id, COUNT(*) AS n FROM %1$s GROUP BY care_subject_id), " +
+            "seq AS (" +
+            "UPDATE care_subjects cs SET change_seq = cs.change_seq + c.n FROM counts c " +
+            "WHERE cs.id = c.care_subject_id " +
+            "RETURNING cs.id AS care_subject_id, cs.change_seq - c.n AS base) " +
+            "INSERT INTO care_record_tombstones (record_id, care_subject_id, change_seq, deleted_at) " +
+            "SELECT r.id, r.care_subject_id, " +
+            "s.base + ROW_NUMBER() OVER (PARTITION BY r.care_subject_id ORDER BY r.id), ? " +
+            "FROM %1$s r JOIN seq s ON s.care_subject_id = r.care_subject_id " +
+            "ON CONFLICT (record_id) DO NOTHING";
+
+    private final CareRecordRepository careRecordRepository;
+    private final CareRecordTombstoneRepository tombstoneRepository;
+    private final CareSubjectRepository careSubjectRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.sync.tombstone-retention-days:30}")
+    private long tombstoneRetentionDays;
+
+    /**
+     * 변경 순번 count개 할당
+     * @return 할당된 첫 순번
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long allocate(Long careSubjectId, int count) {
+        List<Long> allocated = jdbcTemplate.queryForList(ALLOCATE_SQL, Long.class, count, careSubjectId);
+        if (allocated.isEmpty()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "케어 대상을 찾을 수 없습니다.");
+        }
+        return allocated.get(0) - count + 1;
+    }
+
+    /**
+     * 삭제 표시 기록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(CareRecord careRecord) {
+        Long careSubjectId = careRecord.getCareSubject().getId();
+        jdbcTemplate.update(INSERT_TOMBSTONE_SQL, careRecord.getId(), careSubjectId,
+                allocate(careSubjectId, 1), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 보관되는 파티션(또는 분리된 파티션 테이블)의 기록 전체에 삭제 표시 기록
+     * 증분 동기화 중인 클라이언트가 보관된 기록을 로컬에서 지우도록 한다 (보관된 기록은 목록 조회로만 제공).
+     * @return 기록이 빠진 케어 대상 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Long> recordArchived(String table) {
+        List<Long> careSubjectIds = jdbcTemplate.queryForList(LOCK_SUBJECTS_SQL.formatted(table), Long.class);
+        jdbcTemplate.update(TOMBSTONE_TABLE_SQL.formatted(table), Timestamp.valueOf(LocalDateTime.now()));
+        return careSubjectIds;
+    }
+
+    /**
+     * since 이후의 변경 조회 (순번 순서, 최대 limit 건)
+     * since=0에서 시작한 전체 동기화는 응답의 fullSync를 다음 요청에 전달하며,
+     * 전체 동기화 중에는 정리 여부와 관계없이 이어서 받는다 (정리된 삭제 표시는 시작 전에 삭제된 기록이므로).
+     */
+    public CareRecordSyncResponse getChanges(Long careSubjectId, long since, boolean fullSync, int limit, Long userId) {
+        // 케어 대상 접근 권한 확인
+        careSubjectRepository.findByIdAndAccessibleByUserId(careSubjectId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "케어 대상을 찾을 수 없거나 접근 권한이 없습니다."));
+
+        boolean fullSyncPass = fullSync || since == 0;
+
+        // 정리된 삭제 표시 이전 순번이면 증분 동기화 불가
+        Long compactedSeq = fullSyncPass ? null : careSubjectRepository.findCompactedSeq(careSubjectId);
+        if (compactedSeq != null && since < compactedSeq) {
+            return CareRecordSyncResponse.builder()
+                    .changes(List.of())
+                    .nextSince(0)
+                    .resetRequired(true)
+                    .build();
+        }
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_SYNC_LIMIT);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+
+        List<CareRecordSummary> upserts = careRecordRepository.findChangedSince(careSubjectId, since, fetch);
+        // 전체 동기화(since=0)에는 삭제 표시가 필요 없다
+        List<CareRecordTombstone> tombstones = since > 0
+                ? tombstoneRepository.findChangedSince(careSubjectId, since, fetch)
+                : List.of();
+
+        // 두 목록을 순번 순서로 병합
+        List<Change> changes = new ArrayList<>(pageSize);
+        int u = 0;
+        int t = 0;
+        while (changes.size() < pageSize && (u < upserts.size() || t < tombstones.size())) {
+            boolean takeUpsert = t >= tombstones.size()
+                    || (u < upserts.size() && upserts.get(u).changeSeq() < tombstones.get(t).getChangeSeq());
+
+            if (takeUpsert) {
+                CareRecordSummary summary = upserts.get(u++);
+                changes.add(Change.builder()
+                        .changeSeq(summary.changeSeq())
+                        .type(ChangeType.UPSERT)
+                        .recordId(summary.id())
+                        .record(CareRecordResponse.from(summary))
+                        .build());
+            } else {
+                CareRecordTombstone tombstone = tombstones.get(t++);
+                changes.add(Change.builder()
+                        .changeSeq(tombstone.getChangeSeq())
+                        .type(ChangeType.DELETE)
+                        .recordId(tombstone.getRecordId())
+                        .build());
+            }
+        }
+
+        boolean hasMore = u < upserts.size() || t < tombstones.size();
+
+        return CareRecordSyncResponse.builder()
+                .changes(changes)
+                .nextSince(changes.isEmpty() ? since : changes.get(changes.size() - 1).getChangeSeq())
+                .hasMore(hasMore)
+                .fullSync(fullSyncPass && hasMore)
+                .build();
+    }
+
+    /**
+     * 보존 기간이 지난 삭제 표시 정리
+     */
+    @Transactional
+    @Scheduled(cron = "${app.sync.tombstone-compaction-cron:0 30 3 * * *}")
+    public void compactTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(tombstoneRetentionDays);
+        Long removed = jdbcTemplate.queryForObject(COMPACT_SQL, Long.class, Timestamp.valueOf(cutoff));
+
+        if (removed != null && removed > 0) {
+            log.info("Compacted {} care record tombstones older than {}", removed, cutoff);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package carehub.domain.carerecord;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 케어 기록 표시 (동기화용)
+ * 보존 기간이 지나면 정리되며, 그 이전 순번으로 동기화하는 클라이언트는 전체 재동기화가 필요하다.
+ */
+@Entity
+@Table(name = "care_record_tombstones", indexes = {
+        @Index(name = "idx_care_record_tombstone_subject_seq", columnList = "care_subject_id, change_seq"),
+        @Index(name = "idx_care_record_tombstone_deleted_at", columnList = "deleted_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareRecordTombstone {
+
+    @Id
+    @Column(name = "record_id")
+    private Long recordId;
+
+    @Column(name = "care_subject_id", nullable = false)
+    private Long careSubjectId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
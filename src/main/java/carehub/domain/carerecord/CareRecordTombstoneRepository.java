@@ -0,0 +1,22 @@
+package carehub.domain.carerecord;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CareRecordTombstoneRepository extends JpaRepository<CareRecordTombstone, Long> {
+
+    /**
+     * 변경 순번 이후의 삭제 표시 조회 (변경 순서대로)
+     */
+    @Query("SELECT t FROM CareRecordTombstone t " +
+            "WHERE t.careSubjectId = :careSubjectId AND t.changeSeq > :since " +
+            "ORDER BY t.changeSeq")
+    List<CareRecordTombstone> findChangedSince(
+            @Param("careSubjectId") Long careSubjectId,
+            @Param("since") Long since,
+            Pageable pageable);
+}
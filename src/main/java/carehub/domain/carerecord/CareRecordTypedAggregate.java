@@ -0,0 +1,18 @@
+package carehub.domain.carerecord;
+
+import java.math.BigDecimal;
+
+/**
+ * 유형별 컬럼 집계 결과 (기록 유형 + 세부 구분별 1행)
+ * kind는 FEEDING의 method, DIAPER의 kind이며 그 외 유형은 null이다.
+ */
+public record CareRecordTypedAggregate(
+        CareRecordType recordType,
+        String kind,
+        Long count,
+        BigDecimal totalAmount,
+        BigDecimal totalSleepMinutes,
+        BigDecimal minTemperature,
+        BigDecimal maxTemperature,
+        Double avgTemperature) {
+}
@@ -0,0 +1,201 @@
+package carehub.domain.carerecord;
+
+import carehub.domain.caresubject.CareSubjectAccessChangedEvent;
+import carehub.domain.caresubject.CareSubjectChangedEvent;
+import carehub.web.dto.carerecord.CareRecordResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 케어 대상별 최근 기록 캐시
+ * 대상마다 최신순 상위 capacity 건과 접근이 확인된 사용자 목록을 보관하며,
+ * 캐시 적중 시 DB를 전혀 조회하지 않는다.
+ * 대상 수는 maximum-subjects로 제한되고, 노드 간 무효화는 Redis pub/sub으로 전파한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentCareRecordCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "care-record:recent:invalidate";
+
+    private static final Comparator<CareRecordResponse> NEWEST_FIRST = Comparator
+            .comparing(CareRecordResponse::getRecordedAt)
+            .thenComparing(CareRecordResponse::getId)
+            .reversed();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Getter
+    @Value("${app.recent-records.capacity:50}")
+    private int capacity;
+
+    @Value("${app.recent-records.maximum-subjects:10000}")
+    private long maximumSubjects;
+
+    @Value("${app.recent-records.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 무효화 횟수: 조회 중 무효화가 일어났으면 조회 결과를 캐시에 넣지 않는다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private Cache<Long, SubjectBuffer> buffers;
+
+    /**
+     * 대상별 버퍼: 기록 목록은 불변 스냅샷으로 교체, 접근 허용 사용자는 누적
+     */
+    private record SubjectBuffer(List<CareRecordResponse> records, Set<Long> allowedUserIds) {
+    }
+
+    @PostConstruct
+    public void init() {
+        buffers = Caffeine.newBuilder()
+                .maximumSize(maximumSubjects)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buffers, "recentCareRecords");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시 조회 (접근이 확인된 사용자이고 limit이 버퍼 크기 이하일 때만 적중)
+     * @return 미적중 시 null
+     */
+    public List<CareRecordResponse> find(Long careSubjectId, Long userId, int limit) {
+        if (limit > capacity) {
+            return null;
+        }
+
+        SubjectBuffer buffer = buffers.getIfPresent(careSubjectId);
+        if (buffer == null || !buffer.allowedUserIds().contains(userId)) {
+            return null;
+        }
+
+        List<CareRecordResponse> records = buffer.records();
+        return records.subList(0, Math.min(limit, records.size()));
+    }
+
+    /**
+     * 조회 시작 시점 (store 호출 시 전달)
+     */
+    public long version() {
+        return invalidations.get();
+    }
+
+    /**
+     * DB 조회 결과 저장 (최신순 상위 capacity 건)
+     */
+    public void store(Long careSubjectId, Long userId, List<CareRecordResponse> records, long version) {
+        if (invalidations.get() != version) {
+            return;
+        }
+
+        Set<Long> allowedUserIds = ConcurrentHashMap.newKeySet();
+        SubjectBuffer existing = buffers.getIfPresent(careSubjectId);
+        if (existing != null) {
+            allowedUserIds.addAll(existing.allowedUserIds());
+        }
+        allowedUserIds.add(userId);
+
+        List<CareRecordResponse> snapshot = records.size() > capacity ? records.subList(0, capacity) : records;
+        buffers.put(careSubjectId, new SubjectBuffer(List.copyOf(snapshot), allowedUserIds));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCareRecordChanged(CareRecordChangedEvent event) {
+        if (event.getChangeType() == CareRecordChangedEvent.ChangeType.CREATED && event.getCareRecord() != null) {
+            insert(event.getCareSubjectId(), CareRecordResponse.from(event.getCareRecord()));
+        } else {
+            evict(event.getCareSubjectId());
+        }
+        publish(event.getCareSubjectId());
+    }
+
+    // 케어 대상 이름 등 응답에 포함된 대상 정보가 바뀐 경우
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCareSubjectChanged(CareSubjectChangedEvent event) {
+        evict(event.getCareSubjectId());
+        publish(event.getCareSubjectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccessChanged(CareSubjectAccessChangedEvent event) {
+        evict(event.getCareSubjectId());
+        publish(event.getCareSubjectId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 2);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        try {
+            evict(Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed recent records invalidation: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새 기록을 버퍼에 반영
+     * 버퍼가 가득 찼고 새 기록이 가장 오래된 항목보다 오래되었으면 버퍼는 그대로 유효하다.
+     */
+    private void insert(Long careSubjectId, CareRecordResponse record) {
+        invalidations.incrementAndGet();
+        buffers.asMap().computeIfPresent(careSubjectId, (id, buffer) -> {
+            List<CareRecordResponse> records = new ArrayList<>(buffer.records().size() + 1);
+            records.addAll(buffer.records());
+            records.add(record);
+            records.sort(NEWEST_FIRST);
+            if (records.size() > capacity) {
+                records.remove(records.size() - 1);
+            }
+            return new SubjectBuffer(List.copyOf(records), buffer.allowedUserIds());
+        });
+    }
+
+    private void evict(Long careSubjectId) {
+        invalidations.incrementAndGet();
+        buffers.invalidate(careSubjectId);
+    }
+
+    private void publish(Long careSubjectId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + careSubjectId);
+        } catch (Exception e) {
+            log.warn("Failed to publish recent records invalidation for care subject {}: {}",
+                    careSubjectId, e.getMessage());
+        }
+    }
+}
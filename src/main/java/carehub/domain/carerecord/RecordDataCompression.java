@@ -0,0 +1,46 @@
+package carehub.domain.carerecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 기록의 recordData(JSON 문자열) gzip 압축/해제
+ */
+final class RecordDataCompression {
+
+    private RecordDataCompression() {
+    }
+
+    static byte[] compress(String json) {
+        if (json == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length() / 2 + 32);
+        try (OutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static String decompress(byte[] compressed) {
+        if (compressed == null) {
+            return null;
+        }
+
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package carehub.domain.caresubject;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 케어 대상 접근 권한 변경 이벤트 (보호자 제거, 비활성화 등)
+ * 캐시된 접근 허용 정보를 무효화하는 데 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CareSubjectAccessChangedEvent {
+    private final Long careSubjectId;
+}
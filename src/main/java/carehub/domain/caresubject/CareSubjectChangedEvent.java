@@ -0,0 +1,14 @@
+package carehub.domain.caresubject;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 케어 대상 정보 또는 보호자 구성 변경 이벤트
+ * 케어 대상 버전(ETag)을 갱신하는 데 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CareSubjectChangedEvent {
+    private final Long careSubjectId;
+}
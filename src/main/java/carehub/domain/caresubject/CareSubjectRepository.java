@@ -56,4 +56,16 @@ public interface CareSubjectRepository extends JpaRepository<CareSubject, Long>
             "JOIN cs.guardians g " +
             "WHERE g.user.id = :userId AND g.role = 'PRIMARY' AND g.status = 'ACCEPTED' AND cs.isActive = true")
     List<CareSubject> findByPrimaryGuardianUserId(@Param("userId") Long userId);
+
+    /**
+     * 전체 케어 대상 ID 조회 (배치 작업용)
+     */
+    @Query("SELECT cs.id FROM CareSubject cs ORDER BY cs.id")
+    List<Long> findAllIds();
+
+    /**
+     * 삭제 표시가 정리된 마지막 변경 순번 (이보다 이전 순번으로는 증분 동기화 불가)
+     */
+    @Query(value = "SELECT compacted_seq FROM care_subjects WHERE id = :careSubjectId", nativeQuery = true)
+    Long findCompactedSeq(@Param("careSubjectId") Long careSubjectId);
 }
@@ -13,6 +13,7 @@ import carehub.web.dto.caresubject.CareSubjectCreateRequest;
 import carehub.web.dto.caresubject.CareSubjectUpdateRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +29,7 @@ public class CareSubjectService {
     private final CareSubjectRepository careSubjectRepository;
     private final GuardianRepository guardianRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 케어 대상 생성
@@ -153,6 +155,7 @@ public class CareSubjectService {
         }
 
         log.info("Updated care subject: {} by user: {}", careSubject.getName(), userId);
+        eventPublisher.publishEvent(new CareSubjectChangedEvent(careSubjectId));
         return careSubjectRepository.save(careSubject);
     }
 
@@ -178,6 +181,7 @@ public class CareSubjectService {
 
         careSubject.setIsActive(false);
         careSubjectRepository.save(careSubject);
+        eventPublisher.publishEvent(new CareSubjectAccessChangedEvent(careSubjectId));
 
         log.info("Deactivated care subject: {} by user: {}", careSubject.getName(), userId);
     }
@@ -0,0 +1,112 @@
+package carehub.domain.caresubject;
+
+import carehub.domain.carerecord.CareRecordChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 케어 대상 버전 (조건부 GET용 ETag)
+ * 기록, 케어 대상, 보호자 변경 시 커밋 후 Redis 카운터를 증가시킨다.
+ * ETag는 (대상, 사용자, 버전)의 HMAC이므로 다른 사용자가 추측해 304를 받을 수 없다.
+ */
+@Slf4j
+@Service
+public class CareSubjectVersionService {
+
+    private static final String VERSION_PREFIX = "care-subject:version:";
+
+    // 키가 없으면(최초 또는 유실) 이전에 발급된 값과 겹치지 않도록 현재 시각(ms)에서 시작
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('INCR', KEYS[1])
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            return tonumber(ARGV[1])
+            """, Long.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int TAG_BYTES = 16;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SecretKeySpec signingKey;
+
+    public CareSubjectVersionService(RedisTemplate<String, String> redisTemplate,
+                                     @Value("${app.etag.secret:${jwt.secret}}") String secret) {
+        this.redisTemplate = redisTemplate;
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    /**
+     * 현재 버전에 대한 사용자별 ETag (데이터 조회 전에 호출)
+     * @return Redis를 사용할 수 없으면 null (조건부 응답 없이 정상 처리)
+     */
+    public String eTag(Long careSubjectId, Long userId) {
+        try {
+            String key = VERSION_PREFIX + careSubjectId;
+            String version = redisTemplate.opsForValue().get(key);
+            if (version == null) {
+                redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+                version = redisTemplate.opsForValue().get(key);
+            }
+            return version != null ? sign(careSubjectId, userId, version) : null;
+        } catch (DataAccessException e) {
+            log.warn("Care subject version unavailable for {}: {}", careSubjectId, e.getMessage());
+            return null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCareRecordChanged(CareRecordChangedEvent event) {
+        bump(event.getCareSubjectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCareSubjectChanged(CareSubjectChangedEvent event) {
+        bump(event.getCareSubjectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccessChanged(CareSubjectAccessChangedEvent event) {
+        bump(event.getCareSubjectId());
+    }
+
+    private void bump(Long careSubjectId) {
+        try {
+            redisTemplate.execute(BUMP_SCRIPT, List.of(VERSION_PREFIX + careSubjectId),
+                    String.valueOf(System.currentTimeMillis()));
+        } catch (DataAccessException e) {
+            // 버전이 갱신되지 않으면 오래된 ETag가 일치할 수 있으므로 키를 지워 다음 조회 시 새로 시작
+            log.error("Failed to bump care subject version for {}: {}", careSubjectId, e.getMessage());
+            try {
+                redisTemplate.delete(VERSION_PREFIX + careSubjectId);
+            } catch (DataAccessException ignored) {
+                // Redis 장애 중에는 eTag()도 null을 반환하므로 조건부 응답이 일어나지 않는다
+            }
+        }
+    }
+
+    private String sign(Long careSubjectId, Long userId, String version) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal((careSubjectId + ":" + userId + ":" + version).getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, TAG_BYTES)) + "\"";
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
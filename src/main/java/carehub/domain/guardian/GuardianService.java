@@ -3,12 +3,15 @@ package carehub.domain.guardian;
 import carehub.common.exception.BusinessException;
 import carehub.common.exception.ErrorCode;
 import carehub.domain.caresubject.CareSubject;
+import carehub.domain.caresubject.CareSubjectAccessChangedEvent;
+import carehub.domain.caresubject.CareSubjectChangedEvent;
 import carehub.domain.caresubject.CareSubjectRepository;
 import carehub.domain.user.User;
 import carehub.domain.user.UserRepository;
 import carehub.web.dto.guardian.GuardianInviteRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +26,7 @@ public class GuardianService {
     private final GuardianRepository guardianRepository;
     private final CareSubjectRepository careSubjectRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 보호자 초대
@@ -71,6 +75,7 @@ public class GuardianService {
 
         guardian.setDefaultPermissions();
         Guardian savedGuardian = guardianRepository.save(guardian);
+        eventPublisher.publishEvent(new CareSubjectChangedEvent(guardian.getCareSubject().getId()));
 
         // TODO: 이메일 알림 발송
         log.info("Guardian invitation created: {} invited {} for care subject: {}",
@@ -99,6 +104,7 @@ public class GuardianService {
 
         guardian.acceptInvitation();
         Guardian savedGuardian = guardianRepository.save(guardian);
+        eventPublisher.publishEvent(new CareSubjectChangedEvent(guardian.getCareSubject().getId()));
 
         log.info("Guardian invitation accepted: {} for care subject: {}",
                 guardian.getUser().getEmail(), guardian.getCareSubject().getName());
@@ -126,6 +132,7 @@ public class GuardianService {
 
         guardian.rejectInvitation();
         Guardian savedGuardian = guardianRepository.save(guardian);
+        eventPublisher.publishEvent(new CareSubjectChangedEvent(guardian.getCareSubject().getId()));
 
         log.info("Guardian invitation rejected: {} for care subject: {}",
                 guardian.getUser().getEmail(), guardian.getCareSubject().getName());
@@ -156,6 +163,7 @@ public class GuardianService {
         guardian.setRole(newRole);
         guardian.setDefaultPermissions();
         Guardian savedGuardian = guardianRepository.save(guardian);
+        eventPublisher.publishEvent(new CareSubjectChangedEvent(guardian.getCareSubject().getId()));
 
         log.info("Guardian role updated: {} to {} for care subject: {}",
                 guardian.getUser().getEmail(), newRole, guardian.getCareSubject().getName());
@@ -188,6 +196,7 @@ public class GuardianService {
         }
 
         guardianRepository.delete(guardian);
+        eventPublisher.publishEvent(new CareSubjectAccessChangedEvent(guardian.getCareSubject().getId()));
 
         log.info("Guardian removed: {} from care subject: {}",
                 guardian.getUser().getEmail(), guardian.getCareSubject().getName());
@@ -0,0 +1,14 @@
+package carehub.domain.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 계정 토큰 무효화 이벤트
+ * 발행 시점 이전에 발급된 사용자의 액세스 토큰을 더 이상 인정하지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AccountRevokedEvent {
+    private final Long userId;
+}
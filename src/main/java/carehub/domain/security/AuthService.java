@@ -2,19 +2,20 @@ package carehub.domain.security;
 
 import carehub.common.exception.BusinessException;
 import carehub.common.exception.ErrorCode;
+import carehub.domain.user.LastLoginBuffer;
 import carehub.domain.user.User;
 import carehub.domain.user.UserRepository;
 import carehub.web.dto.auth.AuthRequestResponse.TokenResponse;
 import carehub.web.dto.auth.AuthRequestResponse.UserInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j
@@ -25,50 +26,32 @@ public class AuthService {
 
     private final JwtTokenProvider tokenProvider;
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final AuthenticationManager authenticationManager;
+    private final LastLoginBuffer lastLoginBuffer;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PasswordHashingService passwordHashingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 로그인 및 토큰 발급
      */
     @Transactional
     public TokenResponse login(String email, String password, String deviceId, String fcmToken) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(email, password)
-        );
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        if (deviceId == null || deviceId.isBlank()) {
-            deviceId = UUID.randomUUID().toString();
+        // 사용자 조회와 비밀번호 검증을 직접 처리 (AuthenticationManager를 거치면 사용자를 두 번 조회함)
+        User user = userRepository.findWithPreferenceByEmail(email).orElse(null);
+
+        // 미가입 이메일과 비밀번호가 없는 소셜 로그인 계정도 같은 비용의 검증을 거쳐 응답 시간으로 구분되지 않게 함
+        boolean matched = user != null && user.getPassword() != null
+                ? passwordHashingService.matches(password, user.getPassword())
+                : passwordHashingService.matchesDummy(password);
+        if (!matched) {
+            throw new BadCredentialsException("Bad credentials");
         }
 
-        refreshTokenRepository.findByUserIdAndDeviceId(user.getId(), deviceId)
-                .ifPresent(refreshTokenRepository::delete);
-
-        String accessToken = tokenProvider.createAccessToken(email);
-        String refreshToken = tokenProvider.createRefreshToken(user.getId(), deviceId);
-
-        if (fcmToken != null && !fcmToken.isBlank()) {
-            refreshTokenRepository.findByToken(refreshToken)
-                    .ifPresent(token -> {
-                        token.setFcmToken(fcmToken);
-                        refreshTokenRepository.save(token);
-                    });
+        if (!user.isActive()) {
+            throw new DisabledException("User is disabled");
         }
 
-        user.getPreference().setLastLoginAt(java.time.LocalDateTime.now());
-        userRepository.save(user);
-
-        return TokenResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .expiresIn(3600L)
-                .tokenType("Bearer")
-                .userInfo(mapUserInfo(user))
-                .build();
+        return issueTokens(user, deviceId, fcmToken);
     }
 
     /**
@@ -76,26 +59,22 @@ public class AuthService {
      */
     @Transactional
     public TokenResponse createTokensForSocialLogin(User user, String deviceId, String fcmToken) {
+        return issueTokens(user, deviceId, fcmToken);
+    }
+
+    /**
+     * 토큰 발급
+     * 기기별 리프레시 토큰(FCM 토큰 포함) upsert 1회, 마지막 로그인 시각은 버퍼에 기록 후 일괄 반영
+     */
+    private TokenResponse issueTokens(User user, String deviceId, String fcmToken) {
         if (deviceId == null || deviceId.isBlank()) {
             deviceId = UUID.randomUUID().toString();
         }
 
-        refreshTokenRepository.findByUserIdAndDeviceId(user.getId(), deviceId)
-                .ifPresent(refreshTokenRepository::delete);
-
-        String accessToken = tokenProvider.createAccessToken(user.getEmail());
-        String refreshToken = tokenProvider.createRefreshToken(user.getId(), deviceId);
+        String accessToken = tokenProvider.createAccessToken(user);
+        String refreshToken = tokenProvider.createRefreshToken(user.getId(), deviceId, fcmToken);
 
-        if (fcmToken != null && !fcmToken.isBlank()) {
-            refreshTokenRepository.findByToken(refreshToken)
-                    .ifPresent(token -> {
-                        token.setFcmToken(fcmToken);
-                        refreshTokenRepository.save(token);
-                    });
-        }
-
-        user.getPreference().setLastLoginAt(java.time.LocalDateTime.now());
-        userRepository.save(user);
+        lastLoginBuffer.record(user.getId(), LocalDateTime.now());
 
         return TokenResponse.builder()
                 .accessToken(accessToken)
@@ -115,27 +94,38 @@ public class AuthService {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
 
-        RefreshToken storedToken = refreshTokenRepository.findByToken(refreshToken)
+        // 사용한 리프레시 토큰은 새 토큰으로 교체 (재사용된 토큰이나 다른 기기의 토큰은 거부)
+        Long userId = refreshTokenUserId(refreshToken);
+        String rotatedRefreshToken = tokenProvider.rotateRefreshToken(userId, refreshToken,
+                        deviceId != null && !deviceId.isBlank() ? deviceId : null)
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TOKEN));
 
-        if (deviceId != null && !deviceId.isBlank() && !deviceId.equals(storedToken.getDeviceId())) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
-        }
-
-        User user = userRepository.findById(storedToken.getUserId())
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        String newAccessToken = tokenProvider.createAccessToken(user.getEmail());
+        String newAccessToken = tokenProvider.createAccessToken(user);
 
         return TokenResponse.builder()
                 .accessToken(newAccessToken)
-                .refreshToken(refreshToken)
+                .refreshToken(rotatedRefreshToken)
                 .expiresIn(3600L)
                 .tokenType("Bearer")
                 .userInfo(mapUserInfo(user))
                 .build();
     }
 
+    /**
+     * 리프레시 토큰의 subject(사용자 ID)
+     * 액세스 토큰 등 subject가 숫자가 아닌 토큰은 잘못된 토큰으로 처리한다.
+     */
+    private Long refreshTokenUserId(String refreshToken) {
+        try {
+            return Long.valueOf(tokenProvider.getUsernameFromToken(refreshToken));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
     /**
      * 로그아웃
      */
@@ -145,12 +135,12 @@ public class AuthService {
             tokenProvider.blacklistToken(accessToken);
         }
 
-        if (refreshToken != null && !refreshToken.isBlank()) {
-            refreshTokenRepository.deleteByToken(refreshToken);
+        if (userId != null && refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenStore.deleteByToken(userId, refreshToken);
         }
 
         else if (userId != null && deviceId != null && !deviceId.isBlank()) {
-            refreshTokenRepository.deleteByUserIdAndDeviceId(userId, deviceId);
+            refreshTokenStore.deleteByUserIdAndDeviceId(userId, deviceId);
         }
     }
 
@@ -159,7 +149,8 @@ public class AuthService {
      */
     @Transactional
     public void logoutFromAllDevices(Long userId) {
-        refreshTokenRepository.deleteAllByUserId(userId);
+        refreshTokenStore.deleteAllByUserId(userId);
+        eventPublisher.publishEvent(new AccountRevokedEvent(userId));
     }
 
     private UserInfo mapUserInfo(User user) {
@@ -1,8 +1,21 @@
 package carehub.domain.security;
 
 import carehub.domain.user.User;
+import carehub.domain.user.UserChangedEvent;
 import carehub.domain.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,43 +23,119 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, MessageListener {
+
+    static final String DEFAULT_AUTHORITY = "ROLE_USER";
+
+    private static final String INVALIDATION_CHANNEL = "user:details:invalidate";
 
     private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.user-details-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${security.user-details-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 사용자 ID 문자열과 이메일 두 키로 같은 항목을 저장
+    private Cache<String, UserDetails> userDetailsCache;
+
+    @PostConstruct
+    public void init() {
+        userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userDetailsCache, "userDetails");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
 
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetails cached = userDetailsCache.getIfPresent(username);
+        if (cached != null) {
+            // 인증 후 자격 증명이 지워질 수 있으므로 복사본 반환
+            return org.springframework.security.core.userdetails.User.withUserDetails(cached).build();
+        }
+
+        User user = findUser(username)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+
+        UserDetails userDetails = createUserDetails(user);
+        userDetailsCache.put(user.getId().toString(), userDetails);
+        userDetailsCache.put(user.getEmail(), userDetails);
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails).build();
+    }
+
+    private Optional<User> findUser(String username) {
         if (username.contains("@")) {
-            return userRepository.findByEmail(username)
-                    .map(this::createUserDetails)
-                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+            return userRepository.findByEmail(username);
         }
 
         try {
-            Long userId = Long.parseLong(username);
-            return userRepository.findById(userId)
-                    .map(this::createUserDetails)
-                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+            return userRepository.findById(Long.parseLong(username));
         } catch (NumberFormatException e) {
             throw new UsernameNotFoundException("유효하지 않은 사용자 식별자: " + username);
         }
     }
 
+    /**
+     * 사용자 정보 변경 시 로컬 캐시 무효화 후 다른 노드에 전파
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId(), event.getEmail());
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, event.getUserId() + ":" + event.getEmail());
+        } catch (Exception e) {
+            log.warn("Failed to publish user details invalidation for user {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 2);
+
+        try {
+            evict(Long.parseLong(parts[0]), parts.length > 1 ? parts[1] : null);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed user details invalidation: {}", e.getMessage());
+        }
+    }
+
+    private void evict(Long userId, String email) {
+        userDetailsCache.invalidate(userId.toString());
+        if (email != null) {
+            userDetailsCache.invalidate(email);
+        }
+    }
+
     private UserDetails createUserDetails(User user) {
         List<GrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_USER")
+                new SimpleGrantedAuthority(DEFAULT_AUTHORITY)
         );
 
         return new org.springframework.security.core.userdetails.User(
                 user.getId().toString(),
-                user.getPassword(),
+                user.getPassword() != null ? user.getPassword() : "", // 소셜 로그인 사용자는 비밀번호 없음
                 user.isActive(),
                 true, // 계정 만료 여부
                 true, // 자격 증명 만료 여부
@@ -54,4 +143,4 @@ public class CustomUserDetailsService implements UserDetailsService {
                 authorities
         );
     }
-}
\ No newline at end of file
+}
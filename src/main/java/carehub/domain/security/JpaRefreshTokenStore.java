@@ -0,0 +1,58 @@
+package carehub.domain.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * refresh_tokens 테이블 기반 리프레시 토큰 저장소 (기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public void replace(RefreshToken refreshToken) {
+        refreshTokenRepository.upsert(
+                refreshToken.getUserId(),
+                refreshToken.getDeviceId(),
+                refreshToken.getTokenHash(),
+                refreshToken.getFcmToken(),
+                refreshToken.getExpiresAt());
+    }
+
+    @Override
+    public Optional<RefreshToken> rotate(Long userId, String token, String deviceId, RefreshToken replacement) {
+        int rotated = refreshTokenRepository.rotate(
+                userId,
+                TokenDigest.sha256(token),
+                deviceId,
+                replacement.getTokenHash(),
+                replacement.getExpiresAt());
+
+        if (rotated == 0) {
+            return Optional.empty();
+        }
+        return refreshTokenRepository.findByTokenHash(replacement.getTokenHash());
+    }
+
+    @Override
+    public void deleteByToken(Long userId, String token) {
+        refreshTokenRepository.deleteByUserIdAndTokenHash(userId, TokenDigest.sha256(token));
+    }
+
+    @Override
+    public void deleteByUserIdAndDeviceId(Long userId, String deviceId) {
+        refreshTokenRepository.deleteByUserIdAndDeviceId(userId, deviceId);
+    }
+
+    @Override
+    public void deleteAllByUserId(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+}
@@ -5,19 +5,27 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import carehub.domain.user.User;
 import org.springframework.beans.factory.annotation.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import io.jsonwebtoken.JwtException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.security.Key;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -33,79 +41,147 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity-in-seconds}")
     private long refreshTokenValidityInSeconds;
 
+    // true면 액세스 토큰 클레임만으로 인증 객체를 구성 (요청마다 사용자 조회 없음)
+    @Value("${jwt.claims-authentication:true}")
+    private boolean claimsAuthentication;
+
+    // true면 jti가 없는 이전 형식 토큰에 대해 전체 토큰 문자열 키도 확인 (마이그레이션 기간)
+    @Value("${jwt.blacklist.legacy-keys:true}")
+    private boolean legacyBlacklistKeys;
+
     private Key key;
+    private JwtParser jwtParser;
 
     private final UserDetailsService userDetailsService;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenBlacklistCache tokenBlacklistCache;
 
-    private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
+    private static final int TOKEN_ID_BYTES = 12;
+    private static final SecureRandom TOKEN_ID_RANDOM = new SecureRandom();
+
+    static final String USER_ID_CLAIM = "uid";
+    static final String ACTIVE_CLAIM = "active";
+    static final String AUTHORITIES_CLAIM = "auth";
 
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        // 파서는 불변이므로 한 번만 생성해 모든 요청 스레드에서 공유
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
-    public String createAccessToken(String username) {
-        Claims claims = Jwts.claims().setSubject(username);
+    public String createAccessToken(User user) {
+        Claims claims = Jwts.claims().setSubject(user.getEmail());
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ACTIVE_CLAIM, user.isActive());
+        claims.put(AUTHORITIES_CLAIM, CustomUserDetailsService.DEFAULT_AUTHORITY);
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidityInSeconds * 1000);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(generateTokenId())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String createRefreshToken(Long userId, String deviceId) {
+    private String generateTokenId() {
+        byte[] bytes = new byte[TOKEN_ID_BYTES];
+        TOKEN_ID_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 리프레시 토큰 생성 및 저장
+     * 같은 기기의 기존 토큰은 새 토큰으로 교체된다.
+     */
+    public String createRefreshToken(Long userId, String deviceId, String fcmToken) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + refreshTokenValidityInSeconds * 1000);
-
-        String refreshToken = Jwts.builder()
-                .setSubject(userId.toString())
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+        String refreshToken = signRefreshToken(userId, now, validity);
 
         RefreshToken token = RefreshToken.builder()
                 .userId(userId)
-                .token(refreshToken)
+                .tokenHash(TokenDigest.sha256(refreshToken))
                 .deviceId(deviceId)
-                .expiresAt(validity.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime())
+                .fcmToken(fcmToken != null && !fcmToken.isBlank() ? fcmToken : null)
+                .expiresAt(toLocalDateTime(validity))
                 .build();
 
-        refreshTokenRepository.save(token);
+        refreshTokenStore.replace(token);
 
         return refreshToken;
     }
 
+    /**
+     * 리프레시 토큰 회전 (사용 시 교체)
+     * 제시된 토큰이 기기의 현재 토큰일 때만 새 토큰으로 원자적으로 교체하며, 제시된 토큰은 즉시 무효가 된다.
+     * @return 새 리프레시 토큰 (이미 사용되었거나 저장소에 없는 토큰이면 empty)
+     */
+    public Optional<String> rotateRefreshToken(Long userId, String refreshToken, String deviceId) {
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + refreshTokenValidityInSeconds * 1000);
+        String rotated = signRefreshToken(userId, now, validity);
+
+        RefreshToken replacement = RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(TokenDigest.sha256(rotated))
+                .expiresAt(toLocalDateTime(validity))
+                .build();
+
+        return refreshTokenStore.rotate(userId, refreshToken, deviceId, replacement)
+                .map(stored -> rotated);
+    }
+
+    // jti로 같은 초에 발급된 토큰도 서로 다른 값(다이제스트)이 되도록 함
+    private String signRefreshToken(Long userId, Date now, Date validity) {
+        return Jwts.builder()
+                .setSubject(userId.toString())
+                .setId(generateTokenId())
+                .setIssuedAt(now)
+                .setExpiration(validity)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
     public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 검증 후 클레임 반환
+     * 블랙리스트, 계정 무효화, 서명/만료 검사를 한 번의 파싱으로 처리한다.
+     * @return 유효하지 않으면 null
+     */
+    public VerifiedClaims verifyToken(String token) {
         try {
-            if (isTokenBlacklisted(token)) {
-                return false;
-            }
+            VerifiedClaims verifiedClaims = new VerifiedClaims(token, parseClaims(token));
 
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            if (isTokenBlacklisted(verifiedClaims) || isTokenRevoked(verifiedClaims)) {
+                return null;
+            }
+            return verifiedClaims;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
+    public boolean validateToken(String token) {
+        return verifyToken(token) != null;
+    }
+
+    private Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
     public void blacklistToken(String token) {
         if (token == null || token.isEmpty()) {
             log.warn("Attempted to blacklist null or empty token");
@@ -113,22 +189,12 @@ public class JwtTokenProvider {
         }
 
         try {
-            Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
+            VerifiedClaims verifiedClaims = new VerifiedClaims(token, parseClaims(token));
 
-            long ttl = (expiration.getTime() - System.currentTimeMillis()) / 1000;
+            long ttl = (verifiedClaims.getExpiration().getTime() - System.currentTimeMillis()) / 1000;
 
             if (ttl > 0) {
-                redisTemplate.opsForValue().set(
-                        BLACKLIST_PREFIX + token,
-                        "blacklisted",
-                        ttl,
-                        TimeUnit.SECONDS
-                );
+                tokenBlacklistCache.blacklist(blacklistKey(verifiedClaims), ttl);
                 log.debug("Token added to blacklist, expires in {} seconds", ttl);
             } else {
                 log.debug("Token already expired, no need to blacklist");
@@ -138,13 +204,85 @@ public class JwtTokenProvider {
         }
     }
 
-    private boolean isTokenBlacklisted(String token) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + token));
+    private boolean isTokenBlacklisted(VerifiedClaims verifiedClaims) {
+        if (tokenBlacklistCache.isBlacklisted(blacklistKey(verifiedClaims))) {
+            return true;
+        }
+
+        // 마이그레이션 기간: 배포 전에 전체 토큰 문자열로 등록된 항목 확인
+        return legacyBlacklistKeys
+                && verifiedClaims.getTokenId() == null
+                && tokenBlacklistCache.isBlacklisted(verifiedClaims.getToken());
+    }
+
+    /**
+     * 블랙리스트 키: jti, jti가 없는 이전 형식 토큰은 SHA-256 해시 (고정 길이)
+     */
+    private String blacklistKey(VerifiedClaims verifiedClaims) {
+        if (verifiedClaims.getTokenId() != null) {
+            return verifiedClaims.getTokenId();
+        }
+
+        return "h:" + TokenDigest.encode(TokenDigest.sha256(verifiedClaims.getToken()));
+    }
+
+    private boolean isTokenRevoked(VerifiedClaims claims) {
+        Long userId = claims.getUserId();
+        if (userId == null) {
+            return false;
+        }
+
+        // iat는 초 단위이므로 무효화와 같은 초에 발급된 토큰도 거부 (직후 재로그인은 다음 초부터 유효)
+        Long revokedAt = tokenBlacklistCache.getRevokedAt(userId);
+        return revokedAt != null && claims.getIssuedAt().getTime() / 1000 <= revokedAt;
+    }
+
+    /**
+     * 계정 단위 토큰 무효화
+     * 이 시점(같은 초 포함) 이전에 발급된 해당 사용자의 액세스 토큰은 모두 거부된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountRevoked(AccountRevokedEvent event) {
+        long revokedAt = System.currentTimeMillis() / 1000;
+
+        tokenBlacklistCache.revoke(event.getUserId(), revokedAt, accessTokenValidityInSeconds);
+        log.debug("Access tokens revoked for user {}", event.getUserId());
     }
 
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getUsernameFromToken(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        return getAuthentication(new VerifiedClaims(token, parseClaims(token)));
+    }
+
+    /**
+     * 검증된 클레임으로 인증 객체 생성 (재파싱 없음)
+     * 검증된 클레임은 인증 객체의 details로 전달되어 컨트롤러에서 재사용할 수 있다.
+     */
+    public Authentication getAuthentication(VerifiedClaims verifiedClaims) {
+        // 이전 형식의 토큰(uid 클레임 없음)은 DB 조회 방식으로 처리
+        UserDetails userDetails = claimsAuthentication && verifiedClaims.getUserId() != null
+                ? createUserDetails(verifiedClaims)
+                : userDetailsService.loadUserByUsername(verifiedClaims.getSubject());
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        authentication.setDetails(verifiedClaims);
+        return authentication;
+    }
+
+    private UserDetails createUserDetails(VerifiedClaims verifiedClaims) {
+        Claims claims = verifiedClaims.getClaims();
+        List<GrantedAuthority> authorities = AuthorityUtils.commaSeparatedStringToAuthorityList(
+                claims.get(AUTHORITIES_CLAIM, String.class));
+
+        return new org.springframework.security.core.userdetails.User(
+                verifiedClaims.getUserId().toString(),
+                "",
+                Boolean.TRUE.equals(claims.get(ACTIVE_CLAIM, Boolean.class)),
+                true, // 계정 만료 여부
+                true, // 자격 증명 만료 여부
+                true, // 계정 잠금 여부
+                authorities
+        );
     }
 
 }
@@ -0,0 +1,229 @@
+package carehub.domain.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 기반 리프레시 토큰 저장소 (jwt.refresh-token-store=redis)
+ * refresh_tokens 테이블의 기존 토큰을 옮기지 않으므로 전환 시점에 모든 사용자가 다시 로그인해야 한다.
+ * 사용자별 해시 하나(refresh:user:{userId})에 기기별 현재 토큰(device:{기기 ID} -> 다이제스트)과
+ * 토큰 정보(token:{다이제스트} -> JSON)를 함께 저장한다. 원본 토큰은 저장하지 않는다.
+ * 모든 스크립트는 이 키 하나만 다루므로 클러스터에서도 원자적으로 실행되며,
+ * 쓰기마다 만료된 기기 항목을 정리하고 키 만료 시각을 가장 늦은 토큰에 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String USER_PREFIX = "refresh:user:";
+
+    // 만료된 토큰과 그 토큰을 가리키는 기기 항목 정리 후, 키 만료 시각을 남은 토큰 중 가장 늦은 것으로 설정
+    private static final String PRUNE_FUNCTION = """
+            local function prune(key, now)
+                local fields = redis.call('HGETALL', key)
+                local latest = 0
+                for i = 1, #fields, 2 do
+                    if string.sub(fields[i], 1, 6) == 'token:' then
+                        local exp = cjson.decode(fields[i + 1]).exp
+                        if exp <= now then
+                            redis.call('HDEL', key, fields[i])
+                        elseif exp > latest then
+                            latest = exp
+                        end
+                    end
+                end
+                for i = 1, #fields, 2 do
+                    if string.sub(fields[i], 1, 7) == 'device:'
+                            and redis.call('HEXISTS', key, 'token:' .. fields[i + 1]) == 0 then
+                        redis.call('HDEL', key, fields[i])
+                    end
+                end
+                if latest > 0 then
+                    redis.call('EXPIREAT', key, latest)
+                else
+                    redis.call('DEL', key)
+                end
+            end
+            """;
+
+    // 기기의 이전 토큰 삭제 + 새 토큰 저장 (ARGV: 기기 ID, 다이제스트, 토큰 JSON, 현재 시각)
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(PRUNE_FUNCTION + """
+            local previous = redis.call('HGET', KEYS[1], 'device:' .. ARGV[1])
+            if previous then
+                redis.call('HDEL', KEYS[1], 'token:' .. previous)
+            end
+            redis.call('HSET', KEYS[1], 'device:' .. ARGV[1], ARGV[2], 'token:' .. ARGV[2], ARGV[3])
+            prune(KEYS[1], tonumber(ARGV[4]))
+            return 1
+            """, Long.class);
+
+    // 토큰 삭제 (기기가 아직 이 토큰을 가리키면 기기 항목도 삭제) (ARGV: 다이제스트, 현재 시각)
+    private static final RedisScript<Long> DELETE_TOKEN_SCRIPT = new DefaultRedisScript<>(PRUNE_FUNCTION + """
+            local stored = redis.call('HGET', KEYS[1], 'token:' .. ARGV[1])
+            if not stored then
+                return 0
+            end
+            local device = 'device:' .. cjson.decode(stored).deviceId
+            redis.call('HDEL', KEYS[1], 'token:' .. ARGV[1])
+            if redis.call('HGET', KEYS[1], device) == ARGV[1] then
+                redis.call('HDEL', KEYS[1], device)
+            end
+            prune(KEYS[1], tonumber(ARGV[2]))
+            return 1
+            """, Long.class);
+
+    // 기기 토큰 삭제 (ARGV: 기기 ID, 현재 시각)
+    private static final RedisScript<Long> DELETE_DEVICE_SCRIPT = new DefaultRedisScript<>(PRUNE_FUNCTION + """
+            local previous = redis.call('HGET', KEYS[1], 'device:' .. ARGV[1])
+            if not previous then
+                return 0
+            end
+            redis.call('HDEL', KEYS[1], 'device:' .. ARGV[1], 'token:' .. previous)
+            prune(KEYS[1], tonumber(ARGV[2]))
+            return 1
+            """, Long.class);
+
+    // 제시된 토큰이 기기의 현재 토큰이면 새 다이제스트로 교체하고 새 토큰 정보를 반환 (아니면 nil)
+    // (ARGV: 제시된 다이제스트, 기기 ID(빈 값이면 확인 생략), 새 다이제스트, 새 만료 시각, 새 생성 시각, 새 exp, 현재 시각)
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(PRUNE_FUNCTION + """
+            local stored = redis.call('HGET', KEYS[1], 'token:' .. ARGV[1])
+            if not stored then
+                return false
+            end
+            local token = cjson.decode(stored)
+            if token.exp <= tonumber(ARGV[7])
+                    or (ARGV[2] ~= '' and token.deviceId ~= ARGV[2])
+                    or redis.call('HGET', KEYS[1], 'device:' .. token.deviceId) ~= ARGV[1] then
+                return false
+            end
+            token.expiresAt = ARGV[4]
+            token.createdAt = ARGV[5]
+            token.exp = tonumber(ARGV[6])
+            local rotated = cjson.encode(token)
+            redis.call('HDEL', KEYS[1], 'token:' .. ARGV[1])
+            redis.call('HSET', KEYS[1], 'device:' .. token.deviceId, ARGV[3], 'token:' .. ARGV[3], rotated)
+            prune(KEYS[1], tonumber(ARGV[7]))
+            return rotated
+            """, String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 해시에 저장하는 토큰 정보 (exp: 만료 시각 epoch 초, 정리 스크립트에서 사용)
+    record StoredToken(String deviceId, String fcmToken, String expiresAt, String createdAt, long exp) {
+    }
+
+    @Override
+    public void replace(RefreshToken refreshToken) {
+        String digest = TokenDigest.encode(refreshToken.getTokenHash());
+        LocalDateTime createdAt = refreshToken.getCreatedAt() != null
+                ? refreshToken.getCreatedAt()
+                : LocalDateTime.now();
+
+        StoredToken stored = new StoredToken(
+                refreshToken.getDeviceId(),
+                refreshToken.getFcmToken(),
+                refreshToken.getExpiresAt().toString(),
+                createdAt.toString(),
+                epochSeconds(refreshToken.getExpiresAt()));
+
+        redisTemplate.execute(REPLACE_SCRIPT,
+                List.of(userKey(refreshToken.getUserId())),
+                refreshToken.getDeviceId(),
+                digest,
+                toJson(stored),
+                String.valueOf(nowSeconds()));
+    }
+
+    @Override
+    public Optional<RefreshToken> rotate(Long userId, String token, String deviceId, RefreshToken replacement) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        String rotated = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(userKey(userId)),
+                TokenDigest.encode(TokenDigest.sha256(token)),
+                deviceId != null ? deviceId : "",
+                TokenDigest.encode(replacement.getTokenHash()),
+                replacement.getExpiresAt().toString(),
+                createdAt.toString(),
+                String.valueOf(epochSeconds(replacement.getExpiresAt())),
+                String.valueOf(nowSeconds()));
+
+        if (rotated == null) {
+            return Optional.empty();
+        }
+        return Optional.of(toRefreshToken(userId, replacement.getTokenHash(), fromJson(rotated)));
+    }
+
+    @Override
+    public void deleteByToken(Long userId, String token) {
+        redisTemplate.execute(DELETE_TOKEN_SCRIPT,
+                List.of(userKey(userId)),
+                TokenDigest.encode(TokenDigest.sha256(token)),
+                String.valueOf(nowSeconds()));
+    }
+
+    @Override
+    public void deleteByUserIdAndDeviceId(Long userId, String deviceId) {
+        redisTemplate.execute(DELETE_DEVICE_SCRIPT,
+                List.of(userKey(userId)),
+                deviceId,
+                String.valueOf(nowSeconds()));
+    }
+
+    @Override
+    public void deleteAllByUserId(Long userId) {
+        redisTemplate.delete(userKey(userId));
+    }
+
+    private RefreshToken toRefreshToken(Long userId, byte[] tokenHash, StoredToken stored) {
+        return RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .userId(userId)
+                .deviceId(stored.deviceId())
+                .fcmToken(stored.fcmToken())
+                .expiresAt(LocalDateTime.parse(stored.expiresAt()))
+                .createdAt(LocalDateTime.parse(stored.createdAt()))
+                .build();
+    }
+
+    private String toJson(StoredToken stored) {
+        try {
+            return objectMapper.writeValueAsString(stored);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize refresh token", e);
+        }
+    }
+
+    private StoredToken fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, StoredToken.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize refresh token", e);
+        }
+    }
+
+    // 중괄호는 클러스터 해시 태그 (사용자 키를 나누게 되더라도 같은 슬롯에 배치)
+    private static String userKey(Long userId) {
+        return USER_PREFIX + "{" + userId + "}";
+    }
+
+    private static long epochSeconds(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -10,10 +10,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "refresh_tokens", indexes = {
-        @Index(name = "idx_user_id", columnList = "user_id"),
-        @Index(name = "idx_token_status", columnList = "expires_at")
-})
+@Table(name = "refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_user_device", columnNames = {"user_id", "device_id"}),
+        indexes = {
+                @Index(name = "idx_user_id", columnList = "user_id"),
+                @Index(name = "idx_token_status", columnList = "expires_at")
+        })
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,8 +25,9 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    // 원본 토큰은 저장하지 않고 SHA-256 다이제스트(32바이트)만 저장
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32, columnDefinition = "bytea")
+    private byte[] tokenHash;
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
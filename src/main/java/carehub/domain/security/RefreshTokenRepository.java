@@ -3,6 +3,7 @@ package carehub.domain.security;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -10,10 +11,43 @@ import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
     Optional<RefreshToken> findByUserIdAndDeviceId(Long userId, String deviceId);
 
+    /**
+     * (사용자, 기기) 토큰 upsert - 기존 토큰 교체와 FCM 토큰 저장을 단일 문장으로 처리
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO refresh_tokens (user_id, device_id, token_hash, fcm_token, expires_at, created_at) " +
+            "VALUES (:userId, :deviceId, :tokenHash, CAST(:fcmToken AS varchar), :expiresAt, now()) " +
+            "ON CONFLICT (user_id, device_id) DO UPDATE SET " +
+            "token_hash = EXCLUDED.token_hash, fcm_token = EXCLUDED.fcm_token, " +
+            "expires_at = EXCLUDED.expires_at, created_at = EXCLUDED.created_at",
+            nativeQuery = true)
+    void upsert(@Param("userId") Long userId,
+                @Param("deviceId") String deviceId,
+                @Param("tokenHash") byte[] tokenHash,
+                @Param("fcmToken") String fcmToken,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 리프레시 토큰 회전 - 제시된 토큰이 유효할 때만 새 다이제스트/만료 시각으로 교체 (행 잠금으로 한 번만 성공)
+     * @return 교체된 행 수 (0이면 이미 사용되었거나 만료/기기 불일치)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE refresh_tokens SET token_hash = :newTokenHash, expires_at = :expiresAt, created_at = now() " +
+            "WHERE user_id = :userId AND token_hash = :tokenHash AND expires_at > now() " +
+            "AND (CAST(:deviceId AS varchar) IS NULL OR device_id = CAST(:deviceId AS varchar))",
+            nativeQuery = true)
+    int rotate(@Param("userId") Long userId,
+               @Param("tokenHash") byte[] tokenHash,
+               @Param("deviceId") String deviceId,
+               @Param("newTokenHash") byte[] newTokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
     @Transactional
     void deleteAllByUserId(Long userId);
 
@@ -21,10 +55,22 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     void deleteByUserIdAndDeviceId(Long userId, String deviceId);
 
     @Transactional
-    void deleteByToken(String token);
+    void deleteByUserIdAndTokenHash(Long userId, byte[] tokenHash);
 
+    /**
+     * 만료 토큰 일괄 삭제 (expires_at 인덱스 순서로 batchSize 건씩)
+     * @return 삭제된 행 수
+     */
     @Modifying
     @Transactional
-    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < ?1")
-    void deleteAllExpiredTokens(LocalDateTime now);
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN (" +
+            "SELECT id FROM refresh_tokens WHERE expires_at < :now ORDER BY expires_at LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    /**
+     * 아직 삭제되지 않은 가장 오래된 만료 시각
+     */
+    @Query("SELECT MIN(r.expiresAt) FROM RefreshToken r WHERE r.expiresAt < :now")
+    LocalDateTime findOldestExpiredAt(@Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package carehub.domain.security;
+
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소
+ * jwt.refresh-token-store 설정으로 구현체(jpa, redis)를 선택한다 (기본값 jpa).
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * (사용자, 기기) 토큰 교체
+     * 기존 토큰 삭제와 새 토큰 저장을 원자적으로 처리한다.
+     */
+    void replace(RefreshToken refreshToken);
+
+    /**
+     * 리프레시 토큰 회전
+     * 제시된 토큰이 만료되지 않았고 기기의 현재 토큰일 때만 replacement의 다이제스트/만료 시각으로 교체한다.
+     * 확인과 교체는 원자적으로 처리되어, 같은 토큰으로 동시에 요청해도 한 번만 성공한다.
+     * @param deviceId null이면 기기 확인 생략
+     * @return 교체된 토큰 정보 (기기, FCM 토큰 유지), 교체하지 못했으면 empty
+     */
+    Optional<RefreshToken> rotate(Long userId, String token, String deviceId, RefreshToken replacement);
+
+    void deleteByToken(Long userId, String token);
+
+    void deleteByUserIdAndDeviceId(Long userId, String deviceId);
+
+    void deleteAllByUserId(Long userId);
+}
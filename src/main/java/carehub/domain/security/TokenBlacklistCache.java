@@ -0,0 +1,313 @@
+package carehub.domain.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 블랙리스트 / 계정 무효화 니어 캐시
+ * 블랙리스트에 없는 토큰(대부분의 요청)은 Redis 왕복 없이 블룸 필터에서 판정한다.
+ * 노드 간 동기화는 Redis pub/sub, 누락분은 시작 시 및 주기적 재동기화로 보정한다.
+ * 블룸 필터의 "없음" 판정은 구독이 살아 있고 그 이후 재동기화가 끝난 동안에만 믿으며,
+ * 그 외에는 Redis로 확인하고 Redis도 응답하지 않으면 차단된 것으로 처리한다 (fail closed).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistCache implements MessageListener {
+
+    private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
+    private static final String REVOKED_PREFIX = "jwt:revoked:user:";
+    private static final String CHANNEL = "jwt:blacklist:events";
+
+    private static final String TOKEN_EVENT = "T";
+    private static final String REVOKE_EVENT = "R";
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${jwt.blacklist.expected-entries:100000}")
+    private int expectedEntries;
+
+    // true면 로컬 캐시가 동기화된 상태에서의 Redis 장애는 로컬 캐시만으로 판정 (false면 인증 실패 처리)
+    // 구독이 끊겨 동기화되지 않은 상태에서는 이 설정과 관계없이 차단으로 처리한다.
+    @Value("${jwt.blacklist.tolerate-redis-outage:true}")
+    private boolean tolerateRedisOutage;
+
+    // 블랙리스트 키 -> 만료 시각(ms)
+    private final Map<String, Long> blacklistedTokens = new ConcurrentHashMap<>();
+    // 사용자 ID -> 무효화 정보
+    private final Map<Long, Revocation> revokedUsers = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+    // pub/sub 구독 중이고 그 이후 재동기화가 끝났는지 (false면 로컬 캐시에 누락이 있을 수 있음)
+    private volatile boolean synced;
+
+    private record Revocation(long revokedAtSeconds, long expiresAtMillis) {
+    }
+
+    @PostConstruct
+    public void init() {
+        bloomFilter = new BloomFilter(expectedEntries, 0.01);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        resync();
+    }
+
+    /**
+     * 블랙리스트 등록 (Redis 저장 후 다른 노드에 전파)
+     */
+    public void blacklist(String key, long ttlSeconds) {
+        long expiresAt = System.currentTimeMillis() + ttlSeconds * 1000;
+        addLocal(key, expiresAt);
+
+        try {
+            redisTemplate.opsForValue().set(BLACKLIST_PREFIX + key, "blacklisted", ttlSeconds, TimeUnit.SECONDS);
+            redisTemplate.convertAndSend(CHANNEL, TOKEN_EVENT + ":" + expiresAt + ":" + key);
+        } catch (DataAccessException e) {
+            if (!tolerateRedisOutage) {
+                throw e;
+            }
+            log.warn("Redis unavailable, token blacklisted on this node only: {}", e.getMessage());
+        }
+    }
+
+    public boolean isBlacklisted(String key) {
+        boolean trusted = synced;
+        if (trusted && !bloomFilter.mightContain(key)) {
+            return false;
+        }
+
+        Long expiresAt = blacklistedTokens.get(key);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            return true;
+        }
+
+        // 블룸 필터 오탐, 만료된 항목 또는 동기화되지 않은 상태: Redis로 확인
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + key));
+        } catch (DataAccessException e) {
+            if (!trusted) {
+                log.warn("Redis unavailable while blacklist is out of sync, rejecting token: {}", e.getMessage());
+                return true;
+            }
+            if (!tolerateRedisOutage) {
+                throw e;
+            }
+            log.warn("Redis unavailable, using local blacklist only: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 계정 단위 무효화 등록 (Redis 저장 후 다른 노드에 전파)
+     */
+    public void revoke(Long userId, long revokedAtSeconds, long ttlSeconds) {
+        long expiresAt = System.currentTimeMillis() + ttlSeconds * 1000;
+        revokedUsers.merge(userId, new Revocation(revokedAtSeconds, expiresAt), TokenBlacklistCache::latest);
+
+        try {
+            redisTemplate.opsForValue().set(REVOKED_PREFIX + userId, String.valueOf(revokedAtSeconds),
+                    ttlSeconds, TimeUnit.SECONDS);
+            redisTemplate.convertAndSend(CHANNEL,
+                    REVOKE_EVENT + ":" + expiresAt + ":" + userId + ":" + revokedAtSeconds);
+        } catch (DataAccessException e) {
+            if (!tolerateRedisOutage) {
+                throw e;
+            }
+            log.warn("Redis unavailable, user {} revoked on this node only: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 시각 조회 (초 단위, 무효화되지 않았으면 null)
+     * 동기화되지 않은 상태에서는 Redis로 확인하고, Redis도 응답하지 않으면 모든 토큰을 무효로 본다.
+     */
+    public Long getRevokedAt(Long userId) {
+        Revocation revocation = revokedUsers.get(userId);
+        Long local = revocation == null || revocation.expiresAtMillis() <= System.currentTimeMillis()
+                ? null : revocation.revokedAtSeconds();
+        if (synced) {
+            return local;
+        }
+
+        try {
+            String revokedAt = redisTemplate.opsForValue().get(REVOKED_PREFIX + userId);
+            return revokedAt == null ? local : Math.max(Long.parseLong(revokedAt), local == null ? 0 : local);
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable while blacklist is out of sync, rejecting tokens of user {}: {}",
+                    userId, e.getMessage());
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 3);
+        if (parts.length < 3) {
+            return;
+        }
+
+        try {
+            long expiresAt = Long.parseLong(parts[1]);
+            if (TOKEN_EVENT.equals(parts[0])) {
+                addLocal(parts[2], expiresAt);
+            } else if (REVOKE_EVENT.equals(parts[0])) {
+                String[] revocation = parts[2].split(":");
+                revokedUsers.merge(Long.parseLong(revocation[0]),
+                        new Revocation(Long.parseLong(revocation[1]), expiresAt), TokenBlacklistCache::latest);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed blacklist event: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 구독 상태 확인
+     * 구독이 끊기면 로컬 판정을 중단하고, 다시 연결되면 그 사이 누락된 이벤트를 재동기화로 채운다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.subscription-check-ms:5000}")
+    public void checkSubscription() {
+        if (!listenerContainer.isListening()) {
+            if (synced) {
+                log.warn("Blacklist subscription lost, checking Redis for every token until resynced");
+            }
+            synced = false;
+            return;
+        }
+
+        if (!synced) {
+            resync();
+        }
+    }
+
+    /**
+     * Redis 기준으로 로컬 캐시 재동기화
+     * 만료 항목을 정리하고 블룸 필터를 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.resync-interval-ms:60000}",
+            initialDelayString = "${jwt.blacklist.resync-interval-ms:60000}")
+    public void resync() {
+        // 구독 이후에 읽은 상태여야 이벤트와 합쳐 빠짐없이 반영된다
+        boolean listening = listenerContainer.isListening();
+        boolean loaded = false;
+        try {
+            loadFromRedis();
+            loaded = true;
+        } catch (DataAccessException e) {
+            synced = false;
+            log.warn("Blacklist resync skipped, Redis unavailable: {}", e.getMessage());
+        }
+
+        long now = System.currentTimeMillis();
+        blacklistedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedUsers.values().removeIf(revocation -> revocation.expiresAtMillis() <= now);
+        rebuildBloomFilter();
+
+        // 새 블룸 필터로 교체된 뒤에만 "없음" 판정을 믿는다
+        synced = loaded && listening && listenerContainer.isListening();
+    }
+
+    /**
+     * Redis의 블랙리스트/무효화 키를 로컬 캐시에 반영
+     * SCAN으로 받은 키를 묶음 단위로 파이프라인 조회하므로 왕복 횟수는 키 수가 아니라 묶음 수에 비례한다.
+     */
+    private void loadFromRedis() {
+        long now = System.currentTimeMillis();
+        int[] loaded = {0};
+
+        scanInBatches(BLACKLIST_PREFIX, redisKeys -> {
+            List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String redisKey : redisKeys) {
+                    connection.keyCommands().pTtl(StringRedisSerializer.UTF_8.serialize(redisKey));
+                }
+                return null;
+            });
+
+            for (int i = 0; i < redisKeys.size(); i++) {
+                Long ttl = (Long) ttls.get(i);
+                if (ttl != null && ttl > 0) {
+                    blacklistedTokens.put(redisKeys.get(i).substring(BLACKLIST_PREFIX.length()), now + ttl);
+                    loaded[0]++;
+                }
+            }
+        });
+
+        scanInBatches(REVOKED_PREFIX, redisKeys -> {
+            // 키마다 GET, PTTL 순서로 결과가 들어온다
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String redisKey : redisKeys) {
+                    byte[] rawKey = StringRedisSerializer.UTF_8.serialize(redisKey);
+                    connection.stringCommands().get(rawKey);
+                    connection.keyCommands().pTtl(rawKey);
+                }
+                return null;
+            });
+
+            for (int i = 0; i < redisKeys.size(); i++) {
+                String revokedAt = (String) results.get(i * 2);
+                Long ttl = (Long) results.get(i * 2 + 1);
+                if (revokedAt != null && ttl != null && ttl > 0) {
+                    revokedUsers.merge(Long.parseLong(redisKeys.get(i).substring(REVOKED_PREFIX.length())),
+                            new Revocation(Long.parseLong(revokedAt), now + ttl), TokenBlacklistCache::latest);
+                }
+            }
+        });
+
+        log.debug("Blacklist near-cache resynced: {} tokens, {} revoked users", loaded[0], revokedUsers.size());
+    }
+
+    private void scanInBatches(String prefix, Consumer<List<String>> handler) {
+        try (Cursor<String> keys = redisTemplate.scan(
+                ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH_SIZE).build())) {
+            List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+            while (keys.hasNext()) {
+                batch.add(keys.next());
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    handler.accept(batch);
+                    batch = new ArrayList<>(SCAN_BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                handler.accept(batch);
+            }
+        }
+    }
+
+    private synchronized void addLocal(String key, long expiresAt) {
+        blacklistedTokens.put(key, expiresAt);
+        bloomFilter.put(key);
+    }
+
+    private synchronized void rebuildBloomFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, blacklistedTokens.size() * 2), 0.01);
+        blacklistedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+    private static Revocation latest(Revocation current, Revocation candidate) {
+        return candidate.revokedAtSeconds() >= current.revokedAtSeconds() ? candidate : current;
+    }
+}
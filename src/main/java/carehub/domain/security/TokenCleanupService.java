@@ -1,31 +1,109 @@
 package carehub.domain.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 만료된 리프레시 토큰 정리 (JPA 저장소 사용 시)
+ * 한 번에 전체를 지우지 않고 batch-size 건씩 나누어 삭제하며,
+ * Redis 락으로 한 노드에서만 실행한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "jpa", matchIfMissing = true)
 public class TokenCleanupService {
 
+    private static final String LOCK_KEY = "refresh:sweeper:lock";
+
+    // 락 소유자일 때만 해제
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.refresh-token-sweeper.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${jwt.refresh-token-sweeper.pause-ms:100}")
+    private long pauseMillis;
+
+    @Value("${jwt.refresh-token-sweeper.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    @Value("${jwt.refresh-token-sweeper.lock-ttl-seconds:300}")
+    private long lockTtlSeconds;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private Counter removedCounter;
 
-    @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
+    @PostConstruct
+    public void init() {
+        removedCounter = Counter.builder("carehub.refresh_tokens.sweeper.removed")
+                .description("Expired refresh tokens removed by the sweeper")
+                .register(meterRegistry);
+        Gauge.builder("carehub.refresh_tokens.sweeper.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest expired refresh token not yet removed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-sweeper.interval-ms:60000}")
     public void cleanupExpiredTokens() {
-        log.info("Cleaning up expired refresh tokens...");
-        LocalDateTime now = LocalDateTime.now();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, nodeId, Duration.ofSeconds(lockTtlSeconds)))) {
+            return;
+        }
 
         try {
-            refreshTokenRepository.deleteAllExpiredTokens(now);
-            log.info("Expired refresh tokens cleanup completed successfully");
+            long removed = 0;
+            int batches = 0;
+            int deleted;
+
+            do {
+                deleted = refreshTokenRepository.deleteExpiredBatch(LocalDateTime.now(), batchSize);
+                removed += deleted;
+                removedCounter.increment(deleted);
+
+                if (deleted == batchSize) {
+                    Thread.sleep(pauseMillis);
+                }
+            } while (deleted == batchSize && ++batches < maxBatchesPerRun);
+
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime oldestExpiredAt = refreshTokenRepository.findOldestExpiredAt(now);
+            lagSeconds.set(oldestExpiredAt != null ? Duration.between(oldestExpiredAt, now).getSeconds() : 0);
+
+            if (removed > 0) {
+                log.info("Removed {} expired refresh tokens, lag {}s", removed, lagSeconds.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             log.error("Error cleaning up expired refresh tokens", e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), nodeId);
         }
     }
-}
\ No newline at end of file
+}
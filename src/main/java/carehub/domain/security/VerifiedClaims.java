@@ -0,0 +1,47 @@
+package carehub.domain.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 토큰과 클레임
+ * 요청당 한 번만 파싱하고 필터, 인증 객체, 컨트롤러가 같은 값을 공유한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class VerifiedClaims {
+
+    private final String token;
+    private final Claims claims;
+
+    /**
+     * 토큰 ID (jti, 이전 형식 토큰이면 null)
+     */
+    public String getTokenId() {
+        return claims.getId();
+    }
+
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    /**
+     * 액세스 토큰의 사용자 ID (이전 형식 토큰이면 null)
+     */
+    public Long getUserId() {
+        Object userId = claims.get(JwtTokenProvider.USER_ID_CLAIM);
+        return userId instanceof Number number ? number.longValue() : null;
+    }
+
+    public Date getIssuedAt() {
+        return claims.getIssuedAt();
+    }
+
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+}
@@ -15,7 +15,6 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
@@ -24,7 +23,6 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -33,7 +31,6 @@ public class KakaoOAuth2Service {
 
     private final UserRepository userRepository;
     private final AuthService authService;
-    private final PasswordEncoder passwordEncoder;
     private final RestTemplate restTemplate;
 
     @Value("${spring.kakao.client-id}")
@@ -134,12 +131,9 @@ public class KakaoOAuth2Service {
 
         String tempEmail = "kakao_" + kakaoId + "@carehub.temp";
 
-        String randomPassword = UUID.randomUUID().toString();
-        String encodedPassword = passwordEncoder.encode(randomPassword);
-
+        // 소셜 로그인 사용자는 비밀번호 없음 (비밀번호 로그인 불가)
         User user = User.builder()
                 .email(tempEmail)
-                .password(encodedPassword)
                 .name(nickname)
                 .profileImageUrl(profileImageUrl)
                 .socialProvider("kakao")
@@ -0,0 +1,129 @@
+package carehub.domain.user;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 마지막 로그인 시각 write-behind 버퍼
+ * 사용자별로 가장 최근 시각만 메모리에 모아 두었다가 주기적으로 일괄 UPDATE 한다.
+ * 로그인 트랜잭션에서 user_preferences 행 잠금을 잡지 않기 위함이다.
+ * 반영은 스케줄러에서만 별도 트랜잭션으로 수행하고, 버퍼가 가득 차면 새 사용자의 기록은 버린다.
+ * (DB 장애 중에도 메모리 사용량이 max-pending을 넘지 않도록)
+ */
+@Slf4j
+@Component
+public class LastLoginBuffer {
+
+    private static final String UPDATE_SQL =
+            "UPDATE user_preferences SET last_login_at = ? " +
+            "WHERE user_id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.last-login.max-pending:10000}")
+    private int maxPending;
+
+    @Value("${app.last-login.batch-size:500}")
+    private int batchSize;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public LastLoginBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 요청 트랜잭션과 무관하게 자체 커넥션에서 반영
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 마지막 로그인 시각 기록 (버퍼에 넣기만 하고 DB에는 접근하지 않음)
+     * @return 버퍼에 반영되었는지 여부 (가득 차서 버려진 경우 false)
+     */
+    public boolean record(Long userId, LocalDateTime lastLoginAt) {
+        if (!enqueue(userId, lastLoginAt)) {
+            long count = dropped.incrementAndGet();
+            if (count % 1000 == 1) {
+                log.warn("Last login buffer is full ({} pending), dropped {} updates so far", pending.size(), count);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    @Scheduled(fixedDelayString = "${app.last-login.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            LocalDateTime lastLoginAt = pending.remove(userId);
+            if (lastLoginAt != null) {
+                batch.add(Map.entry(userId, lastLoginAt));
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batchSize, (ps, entry) -> {
+                        ps.setObject(1, entry.getValue());
+                        ps.setLong(2, entry.getKey());
+                        ps.setObject(3, entry.getValue());
+                    }));
+            log.debug("Flushed last login time for {} users", batch.size());
+        } catch (DataAccessException | TransactionException e) {
+            // 다음 주기에 다시 시도 (그 사이 들어온 기록과 합치고, 자리가 없으면 버림)
+            long requeued = batch.stream()
+                    .filter(entry -> enqueue(entry.getKey(), entry.getValue()))
+                    .count();
+            dropped.addAndGet(batch.size() - requeued);
+            log.error("Failed to flush last login times, requeued {} of {}: {}",
+                    requeued, batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private boolean enqueue(Long userId, LocalDateTime lastLoginAt) {
+        // 이미 있는 사용자는 최신 시각으로 합치고, 새 사용자는 자리가 있을 때만 추가
+        if (pending.size() >= maxPending && !pending.containsKey(userId)) {
+            return false;
+        }
+        pending.merge(userId, lastLoginAt, LastLoginBuffer::latest);
+        return true;
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        return candidate.isAfter(current) ? candidate : current;
+    }
+}
@@ -0,0 +1,15 @@
+package carehub.domain.user;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 인증 정보 변경 이벤트 (비밀번호, 활성 상태, 프로필 등)
+ * 캐시된 사용자 정보를 무효화하는 데 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+    private final Long userId;
+    private final String email;
+}
@@ -1,6 +1,8 @@
 package carehub.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -8,6 +10,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    /**
+     * 이메일로 사용자와 설정을 한 번에 조회 (로그인용)
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.preference WHERE u.email = :email")
+    Optional<User> findWithPreferenceByEmail(@Param("email") String email);
+
     boolean existsByEmail(String email);
 
     /**
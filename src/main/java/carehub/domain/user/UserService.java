@@ -3,11 +3,13 @@ package carehub.domain.user;
 import carehub.common.exception.BusinessException;
 import carehub.common.exception.ErrorCode;
 import carehub.common.service.EmailService;
+import carehub.domain.security.AccountRevokedEvent;
+import carehub.domain.security.PasswordHashingService;
 import carehub.domain.security.VerificationService;
 import carehub.web.dto.auth.request.RegisterUserRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
 
@@ -19,8 +21,9 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final VerificationService verificationService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 이메일 존재 여부 확인
@@ -79,7 +82,7 @@ public class UserService {
             throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
 
         // 사용자 생성
         User user = User.builder()
@@ -146,10 +149,14 @@ public class UserService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 비밀번호 업데이트
-        String encodedPassword = passwordEncoder.encode(newPassword);
+        String encodedPassword = passwordHashingService.encode(newPassword);
         user.setPassword(encodedPassword);
         userRepository.save(user);
 
+        // 기존에 발급된 액세스 토큰 무효화
+        eventPublisher.publishEvent(new AccountRevokedEvent(user.getId()));
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
+
         // 토큰 만료 처리
         verificationService.completeVerification(email, token);
 
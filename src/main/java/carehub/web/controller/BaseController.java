@@ -1,8 +1,12 @@
 package carehub.web.controller;
 
+import carehub.domain.security.VerifiedClaims;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 public abstract class BaseController {
@@ -33,6 +37,32 @@ public abstract class BaseController {
         throw new RuntimeException("인증된 사용자 정보를 찾을 수 없습니다.");
     }
 
+    /**
+     * 현재 요청에서 검증된 토큰 클레임 조회 (필터에서 파싱한 결과 재사용)
+     * @return 검증된 클레임 (토큰 인증이 아닌 경우 null)
+     */
+    protected VerifiedClaims getVerifiedClaims() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getDetails() instanceof VerifiedClaims verifiedClaims) {
+            return verifiedClaims;
+        }
+
+        return null;
+    }
+
+    /**
+     * 조건부 GET 처리 (ETag 응답 헤더 설정 포함)
+     * @return If-None-Match가 현재 ETag와 일치하면 true
+     */
+    protected boolean checkNotModified(WebRequest webRequest, String eTag) {
+        return eTag != null && webRequest.checkNotModified(eTag);
+    }
+
+    protected <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
     /**
      * 현재 로그인한 사용자 이메일 조회 (필요시 사용)
      * @return 사용자 이메일
@@ -1,22 +1,42 @@
 package carehub.web.controller;
 
 import carehub.common.dto.response.ApiResponse;
+import carehub.common.dto.response.CursorResponse;
 import carehub.common.dto.response.PageResponse;
 import carehub.domain.carerecord.CareRecord;
+import carehub.domain.carerecord.CareRecordExportFormat;
+import carehub.domain.carerecord.CareRecordExportService;
+import carehub.domain.carerecord.CareRecordPatchService;
 import carehub.domain.carerecord.CareRecordService;
+import carehub.domain.carerecord.CareRecordStatsService;
+import carehub.domain.carerecord.CareRecordSyncService;
 import carehub.domain.carerecord.CareRecordType;
+import carehub.domain.caresubject.CareSubjectVersionService;
+import carehub.web.dto.carerecord.CareRecordBatchCreateRequest;
+import carehub.web.dto.carerecord.CareRecordBatchResponse;
 import carehub.web.dto.carerecord.CareRecordCreateRequest;
+import carehub.web.dto.carerecord.CareRecordDailyStatResponse;
+import carehub.web.dto.carerecord.CareRecordPatchResponse;
 import carehub.web.dto.carerecord.CareRecordResponse;
+import carehub.web.dto.carerecord.CareRecordSyncResponse;
+import carehub.web.dto.carerecord.CareRecordTypedSummaryResponse;
 import carehub.web.dto.carerecord.CareRecordUpdateRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -25,6 +45,11 @@ import java.util.List;
 public class CareRecordController extends BaseController {
 
     private final CareRecordService careRecordService;
+    private final CareRecordExportService careRecordExportService;
+    private final CareRecordPatchService careRecordPatchService;
+    private final CareRecordStatsService careRecordStatsService;
+    private final CareRecordSyncService careRecordSyncService;
+    private final CareSubjectVersionService careSubjectVersionService;
 
     /**
      * 케어 기록 생성
@@ -40,6 +65,19 @@ public class CareRecordController extends BaseController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 케어 기록 일괄 생성
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<CareRecordBatchResponse>> createCareRecords(
+            @Valid @RequestBody CareRecordBatchCreateRequest request) {
+
+        Long userId = getCurrentUserId();
+        CareRecordBatchResponse response = careRecordService.createCareRecords(request.getRecords(), userId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 케어 기록 목록 조회 (페이지네이션)
      */
@@ -50,15 +88,158 @@ public class CareRecordController extends BaseController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
 
         Long userId = getCurrentUserId();
+        String eTag = careSubjectVersionService.eTag(careSubjectId, userId);
+        if (checkNotModified(webRequest, eTag)) {
+            return notModified(eTag);
+        }
+
         PageResponse<CareRecordResponse> response = careRecordService.getCareRecords(
                 careSubjectId, recordType, startDate, endDate, page, size, userId);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 케어 기록 목록 조회 (커서 기반)
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달한다.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<CareRecordResponse>>> getCareRecordsByCursor(
+            @RequestParam Long careSubjectId,
+            @RequestParam(required = false) CareRecordType recordType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        Long userId = getCurrentUserId();
+        String eTag = careSubjectVersionService.eTag(careSubjectId, userId);
+        if (checkNotModified(webRequest, eTag)) {
+            return notModified(eTag);
+        }
+
+        CursorResponse<CareRecordResponse> response = careRecordService.getCareRecordsByCursor(
+                careSubjectId, recordType, startDate, endDate, cursor, size, userId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 케어 기록 이력 조회 (보관된 기록 포함, 커서 기반)
+     */
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<CursorResponse<CareRecordResponse>>> getCareRecordHistory(
+            @RequestParam Long careSubjectId,
+            @RequestParam(required = false) CareRecordType recordType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        Long userId = getCurrentUserId();
+        String eTag = careSubjectVersionService.eTag(careSubjectId, userId);
+        if (checkNotModified(webRequest, eTag)) {
+            return notModified(eTag);
+        }
+
+        CursorResponse<CareRecordResponse> response = careRecordService.getCareRecordHistory(
+                careSubjectId, recordType, startDate, endDate, cursor, size, userId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 케어 기록 증분 동기화 (since 이후의 생성/수정/삭제)
+     * 응답의 fullSync가 true면 다음 요청에도 fullSync=true를 전달한다.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<CareRecordSyncResponse>> getCareRecordChanges(
+            @RequestParam Long careSubjectId,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "false") boolean fullSync,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        Long userId = getCurrentUserId();
+        CareRecordSyncResponse response = careRecordSyncService.getChanges(
+                careSubjectId, since, fullSync, limit, userId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 케어 기록 일별 통계 조회 (집계 테이블 기반)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<CareRecordDailyStatResponse>>> getDailyStats(
+            @RequestParam Long careSubjectId,
+            @RequestParam(required = false) CareRecordType recordType,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest webRequest) {
+
+        Long userId = getCurrentUserId();
+        String eTag = careSubjectVersionService.eTag(careSubjectId, userId);
+        if (checkNotModified(webRequest, eTag)) {
+            return notModified(eTag);
+        }
+
+        List<CareRecordDailyStatResponse> response = careRecordStatsService.getDailyStats(
+                careSubjectId, recordType, startDate, endDate, userId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 기간별 유형 상세 요약 (식사량, 수면 시간, 기저귀 종류, 체온)
+     */
+    @GetMapping("/stats/summary")
+    public ResponseEntity<ApiResponse<CareRecordTypedSummaryResponse>> getTypedSummary(
+            @RequestParam Long careSubjectId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest webRequest) {
+
+        Long userId = getCurrentUserId();
+        String eTag = careSubjectVersionService.eTag(careSubjectId, userId);
+        if (checkNotModified(webRequest, eTag)) {
+            return notModified(eTag);
+        }
+
+        CareRecordTypedSummaryResponse response = careRecordStatsService.getTypedSummary(
+                careSubjectId, startDate, endDate, userId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 케어 대상의 전체 기록 내보내기 (보관된 기록 포함, NDJSON / CSV 스트리밍)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCareRecords(
+            @RequestParam Long careSubjectId,
+            @RequestParam(defaultValue = "NDJSON") CareRecordExportFormat format) {
+
+        Long userId = getCurrentUserId();
+        careRecordExportService.checkExportable(careSubjectId, userId);
+
+        StreamingResponseBody body = outputStream ->
+                careRecordExportService.export(careSubjectId, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("care-records-" + careSubjectId + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * 케어 기록 상세 조회
      */
@@ -88,6 +269,22 @@ public class CareRecordController extends BaseController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 케어 기록 상세 데이터 부분 수정 (JSON Merge Patch)
+     * version에는 마지막으로 조회한 기록의 changeSeq를 전달하며, 응답의 version이 새 값이다.
+     */
+    @PatchMapping(value = "/{recordId}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<CareRecordPatchResponse>> patchCareRecordData(
+            @PathVariable Long recordId,
+            @RequestParam long version,
+            @RequestBody Map<String, Object> patch) {
+
+        Long userId = getCurrentUserId();
+        CareRecordPatchResponse response = careRecordPatchService.patchRecordData(recordId, version, patch, userId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 케어 기록 삭제
      */
@@ -105,9 +302,15 @@ public class CareRecordController extends BaseController {
     @GetMapping("/recent")
     public ResponseEntity<ApiResponse<List<CareRecordResponse>>> getRecentCareRecords(
             @RequestParam Long careSubjectId,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest webRequest) {
 
         Long userId = getCurrentUserId();
+        String eTag = careSubjectVersionService.eTag(careSubjectId, userId);
+        if (checkNotModified(webRequest, eTag)) {
+            return notModified(eTag);
+        }
+
         List<CareRecordResponse> response = careRecordService.getRecentCareRecords(
                 careSubjectId, limit, userId);
 
@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +23,7 @@ import java.util.List;
 public class CareSubjectController extends BaseController {
 
     private final CareSubjectService careSubjectService;
+    private final CareSubjectVersionService careSubjectVersionService;
 
     /**
      * 케어 대상 생성
@@ -56,9 +58,15 @@ public class CareSubjectController extends BaseController {
      */
     @GetMapping("/{careSubjectId}")
     public ResponseEntity<ApiResponse<CareSubjectResponse>> getCareSubject(
-            @PathVariable Long careSubjectId) {
+            @PathVariable Long careSubjectId,
+            WebRequest webRequest) {
 
         Long userId = getCurrentUserId();
+        String eTag = careSubjectVersionService.eTag(careSubjectId, userId);
+        if (checkNotModified(webRequest, eTag)) {
+            return notModified(eTag);
+        }
+
         CareSubject careSubject = careSubjectService.getCareSubject(careSubjectId, userId);
         CareSubjectResponse response = CareSubjectResponse.from(careSubject);
 
@@ -96,9 +104,15 @@ public class CareSubjectController extends BaseController {
      */
     @GetMapping("/{careSubjectId}/guardians")
     public ResponseEntity<ApiResponse<List<GuardianResponse>>> getCareSubjectGuardians(
-            @PathVariable Long careSubjectId) {
+            @PathVariable Long careSubjectId,
+            WebRequest webRequest) {
 
         Long userId = getCurrentUserId();
+        String eTag = careSubjectVersionService.eTag(careSubjectId, userId);
+        if (checkNotModified(webRequest, eTag)) {
+            return notModified(eTag);
+        }
+
         List<Guardian> guardians = careSubjectService.getCareSubjectGuardians(careSubjectId, userId);
         List<GuardianResponse> responses = guardians.stream()
                 .map(GuardianResponse::from)
@@ -0,0 +1,21 @@
+package carehub.web.dto.carerecord;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 케어 기록 일괄 생성 요청 (항목별 검증은 서비스에서 수행하여 결과에 포함)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareRecordBatchCreateRequest {
+    @NotEmpty(message = "기록 목록은 비어 있을 수 없습니다")
+    @Size(max = 500, message = "한 번에 최대 500건까지 등록할 수 있습니다")
+    private List<CareRecordCreateRequest> records;
+}
@@ -0,0 +1,48 @@
+package carehub.web.dto.carerecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 케어 기록 일괄 생성 응답 (요청 순서대로 항목별 결과)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareRecordBatchResponse {
+    private int createdCount;
+    private int failedCount;
+    private List<ItemResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private boolean success;
+        private Long id;
+        private String errorCode;
+        private String message;
+
+        public static ItemResult created(int index, Long id) {
+            return ItemResult.builder()
+                    .index(index)
+                    .success(true)
+                    .id(id)
+                    .build();
+        }
+
+        public static ItemResult failed(int index, String errorCode, String message) {
+            return ItemResult.builder()
+                    .index(index)
+                    .success(false)
+                    .errorCode(errorCode)
+                    .message(message)
+                    .build();
+        }
+    }
+}
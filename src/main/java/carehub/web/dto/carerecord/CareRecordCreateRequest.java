@@ -4,6 +4,7 @@ import carehub.domain.carerecord.CareRecordType;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,6 +30,7 @@ public class CareRecordCreateRequest {
     private String description;
 
     @NotNull(message = "기록 시간은 필수입니다")
+    @PastOrPresent(message = "기록 시간은 현재 이후일 수 없습니다")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime recordedAt;
 
@@ -0,0 +1,35 @@
+package carehub.web.dto.carerecord;
+
+import carehub.domain.carerecord.CareRecordDailyStat;
+import carehub.domain.carerecord.CareRecordType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareRecordDailyStatResponse {
+    private LocalDate date;
+    private CareRecordType recordType;
+    private String recordTypeDisplayName;
+    private long count;
+    private BigDecimal totalDurationMinutes;
+    private BigDecimal totalAmount;
+
+    public static CareRecordDailyStatResponse from(CareRecordDailyStat stat) {
+        return CareRecordDailyStatResponse.builder()
+                .date(stat.getStatDate())
+                .recordType(stat.getRecordType())
+                .recordTypeDisplayName(stat.getRecordType().getDisplayName())
+                .count(stat.getRecordCount())
+                .totalDurationMinutes(stat.getTotalDurationMinutes())
+                .totalAmount(stat.getTotalAmount())
+                .build();
+    }
+}
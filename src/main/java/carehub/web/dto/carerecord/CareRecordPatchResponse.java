@@ -0,0 +1,16 @@
+package carehub.web.dto.carerecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 케어 기록 부분 수정 응답 (다음 수정 시 version으로 전달)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareRecordPatchResponse {
+    private Long id;
+    private Long version;
+}
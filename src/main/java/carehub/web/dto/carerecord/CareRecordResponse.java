@@ -1,6 +1,7 @@
 package carehub.web.dto.carerecord;
 
 import carehub.domain.carerecord.CareRecord;
+import carehub.domain.carerecord.CareRecordSummary;
 import carehub.domain.carerecord.CareRecordType;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
@@ -37,6 +38,8 @@ public class CareRecordResponse {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime updatedAt;
 
+    private Long changeSeq;
+
     public static CareRecordResponse from(CareRecord careRecord) {
         return CareRecordResponse.builder()
                 .id(careRecord.getId())
@@ -52,6 +55,26 @@ public class CareRecordResponse {
                 .recordedById(careRecord.getRecordedBy().getId())
                 .createdAt(careRecord.getCreatedAt())
                 .updatedAt(careRecord.getUpdatedAt())
+                .changeSeq(careRecord.getChangeSeq())
+                .build();
+    }
+
+    public static CareRecordResponse from(CareRecordSummary summary) {
+        return CareRecordResponse.builder()
+                .id(summary.id())
+                .careSubjectId(summary.careSubjectId())
+                .careSubjectName(summary.careSubjectName())
+                .recordType(summary.recordType())
+                .recordTypeDisplayName(summary.recordType().getDisplayName())
+                .title(summary.title())
+                .description(summary.description())
+                .recordedAt(summary.recordedAt())
+                .recordData(summary.recordData())
+                .recordedByName(summary.recordedByName())
+                .recordedById(summary.recordedById())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .changeSeq(summary.changeSeq())
                 .build();
     }
 }
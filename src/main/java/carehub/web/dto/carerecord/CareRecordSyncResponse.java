@@ -0,0 +1,40 @@
+package carehub.web.dto.carerecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 케어 기록 증분 동기화 응답 (변경 순번 순서)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareRecordSyncResponse {
+    private List<Change> changes;
+    // 다음 요청의 since 값
+    private long nextSince;
+    private boolean hasMore;
+    // true면 전체 동기화가 진행 중이므로 다음 요청에 fullSync=true로 전달
+    private boolean fullSync;
+    // true면 since가 정리된 구간에 있으므로 since=0으로 전체 동기화 필요
+    private boolean resetRequired;
+
+    public enum ChangeType {
+        UPSERT, DELETE
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        private long changeSeq;
+        private ChangeType type;
+        private Long recordId;
+        // UPSERT일 때만 포함
+        private CareRecordResponse record;
+    }
+}
@@ -0,0 +1,35 @@
+package carehub.web.dto.carerecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+// 기간별 유형 상세 요약 (식사량, 수면 시간, 기저귀 종류, 체온)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareRecordTypedSummaryResponse {
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    private long feedingCount;
+    private BigDecimal feedingTotalAmount;
+    private Map<String, Long> feedingCountByMethod;
+
+    private long sleepCount;
+    private BigDecimal sleepTotalMinutes;
+
+    private long diaperCount;
+    private Map<String, Long> diaperCountByKind;
+
+    private long healthCount;
+    private BigDecimal minTemperature;
+    private BigDecimal maxTemperature;
+    private Double avgTemperature;
+}
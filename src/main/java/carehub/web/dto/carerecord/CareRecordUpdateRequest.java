@@ -1,6 +1,7 @@
 package carehub.web.dto.carerecord;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.PastOrPresent;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +19,7 @@ public class CareRecordUpdateRequest {
     private String description;
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @PastOrPresent(message = "기록 시간은 현재 이후일 수 없습니다")
     private LocalDateTime recordedAt;
 
     private Map<String, Object> recordData;
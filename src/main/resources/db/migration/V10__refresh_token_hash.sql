@@ -0,0 +1,35 @@
+-- 리프레시 토큰을 원본 대신 SHA-256 다이제스트로 저장하고, 기기당 한 행으로 upsert 한다.
+-- V1은 기존(ddl-auto) 스키마 그대로이므로 baseline 처리된 DB도 이 마이그레이션으로 같은 구조가 된다.
+
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash BYTEA;
+
+-- 기존 토큰은 다이제스트로 옮겨 로그인 상태를 유지 (JWT는 ASCII라 UTF8 변환 결과가 같음)
+-- (이미 ddl-auto로 token_hash가 추가된 DB는 token 컬럼이 남아 있는 경우에만 채움)
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'refresh_tokens' AND column_name = 'token') THEN
+        UPDATE refresh_tokens
+        SET token_hash = sha256(convert_to(token, 'UTF8'))
+        WHERE token_hash IS NULL;
+    END IF;
+END $$;
+
+-- 같은 사용자/기기에 여러 행이 있으면 가장 최근 것만 남김 (ON CONFLICT (user_id, device_id) 대상 제약 생성 전)
+DELETE FROM refresh_tokens r
+USING refresh_tokens newer
+WHERE r.user_id = newer.user_id
+  AND r.device_id = newer.device_id
+  AND (r.created_at, r.id) < (newer.created_at, newer.id);
+
+-- 다이제스트를 만들 수 없는 행은 조회될 수 없으므로 제거 (해당 기기는 재로그인)
+DELETE FROM refresh_tokens WHERE token_hash IS NULL;
+
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens DROP CONSTRAINT IF EXISTS uk_refresh_token_hash;
+ALTER TABLE refresh_tokens DROP CONSTRAINT IF EXISTS uk_refresh_token_user_device;
+ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash);
+ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_token_user_device UNIQUE (user_id, device_id);
+
+-- 원본 토큰 컬럼 제거 (컬럼의 UNIQUE 제약도 함께 제거됨)
+ALTER TABLE refresh_tokens DROP COLUMN IF EXISTS token;
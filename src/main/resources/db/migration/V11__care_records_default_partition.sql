@@ -0,0 +1,7 @@
+-- care_records 기본(DEFAULT) 파티션
+-- 월 파티션이 아직 없는 기록 시간(과거 기록 입력, 파티션 생성 실패 등)도 저장이 실패하지 않도록 받아 둔다.
+-- 파티션 유지 작업이 기본 파티션에 들어온 월을 찾아 월 파티션을 만들고 해당 기록을 옮기므로,
+-- 평소에는 비어 있어 조회 시 파티션 제외(pruning)와 인덱스 스캔에 영향이 적다.
+-- 인덱스와 생성 컬럼은 부모 테이블에서 자동으로 만들어진다.
+
+CREATE TABLE IF NOT EXISTS care_records_default PARTITION OF care_records DEFAULT;
@@ -0,0 +1,108 @@
+-- 기존 스키마 (ddl-auto로 생성되던 구조)
+-- 기존 데이터베이스는 baseline-on-migrate로 이 버전을 건너뛴다.
+
+CREATE TABLE users (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email             VARCHAR(255) NOT NULL UNIQUE,
+    password          VARCHAR(255),
+    name              VARCHAR(255) NOT NULL,
+    phone             VARCHAR(255),
+    profile_image_url VARCHAR(255),
+    social_provider   VARCHAR(255),
+    social_id         VARCHAR(255),
+    is_active         BOOLEAN      NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_social_login ON users (social_provider, social_id);
+
+CREATE TABLE user_preferences (
+    user_id           BIGINT PRIMARY KEY REFERENCES users (id),
+    timezone          VARCHAR(255),
+    theme             VARCHAR(255),
+    quiet_hours_start TIME(6),
+    quiet_hours_end   TIME(6),
+    language          VARCHAR(255),
+    last_login_at     TIMESTAMP(6),
+    updated_at        TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE care_subjects (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                  VARCHAR(100)  NOT NULL,
+    birth_date            DATE          NOT NULL,
+    gender                VARCHAR(10),
+    blood_type            VARCHAR(5),
+    birth_weight          NUMERIC(5, 2),
+    birth_height          NUMERIC(5, 2),
+    subject_type          VARCHAR(20)   NOT NULL,
+    additional_info       JSONB,
+    is_active             BOOLEAN       NOT NULL,
+    profile_image_url     VARCHAR(255),
+    created_by            BIGINT        NOT NULL REFERENCES users (id),
+    main_caregiver_id     BIGINT        NOT NULL REFERENCES users (id),
+    created_at            TIMESTAMP(6)  NOT NULL,
+    updated_at            TIMESTAMP(6)  NOT NULL,
+    birth_weight_grams    INTEGER,
+    birth_height_cm       INTEGER,
+    head_circumference_cm INTEGER,
+    gestational_age_weeks INTEGER,
+    delivery_type         VARCHAR(20),
+    allergies             VARCHAR(500),
+    special_care_needs    VARCHAR(1000),
+    last_checkup_date     DATE
+);
+
+CREATE INDEX idx_care_subject_created_by ON care_subjects (created_by);
+CREATE INDEX idx_care_subject_active ON care_subjects (is_active);
+CREATE INDEX idx_care_subject_type ON care_subjects (subject_type);
+
+CREATE TABLE guardians (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id         BIGINT       NOT NULL REFERENCES users (id),
+    care_subject_id BIGINT       NOT NULL REFERENCES care_subjects (id),
+    role            VARCHAR(20)  NOT NULL,
+    permissions     JSONB,
+    status          VARCHAR(20)  NOT NULL,
+    invited_by      BIGINT REFERENCES users (id),
+    invited_at      TIMESTAMP(6) NOT NULL,
+    accepted_at     TIMESTAMP(6),
+    rejected_at     TIMESTAMP(6),
+    memo            VARCHAR(500),
+    UNIQUE (user_id, care_subject_id)
+);
+
+CREATE INDEX idx_guardian_user ON guardians (user_id);
+CREATE INDEX idx_guardian_care_subject ON guardians (care_subject_id);
+CREATE INDEX idx_guardian_status ON guardians (status);
+
+CREATE TABLE care_records (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    care_subject_id BIGINT        NOT NULL REFERENCES care_subjects (id),
+    record_type     VARCHAR(20)   NOT NULL,
+    title           VARCHAR(200)  NOT NULL,
+    description     VARCHAR(1000),
+    recorded_at     TIMESTAMP(6)  NOT NULL,
+    record_data     JSONB,
+    recorded_by     BIGINT        NOT NULL REFERENCES users (id),
+    created_at      TIMESTAMP(6)  NOT NULL,
+    updated_at      TIMESTAMP(6)  NOT NULL
+);
+
+CREATE INDEX idx_care_record_subject ON care_records (care_subject_id);
+CREATE INDEX idx_care_record_type ON care_records (record_type);
+CREATE INDEX idx_care_record_date ON care_records (recorded_at);
+
+CREATE TABLE refresh_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token      VARCHAR(255) NOT NULL UNIQUE,
+    user_id    BIGINT       NOT NULL,
+    device_id  VARCHAR(255),
+    fcm_token  VARCHAR(255),
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_user_id ON refresh_tokens (user_id);
+CREATE INDEX idx_token_status ON refresh_tokens (expires_at);
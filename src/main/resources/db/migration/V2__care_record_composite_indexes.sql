@@ -0,0 +1,14 @@
+-- 케어 기록 조회 경로에 맞춘 복합 인덱스
+-- 모든 목록 쿼리는 케어 대상(+유형)으로 거르고 recorded_at DESC, id DESC로 정렬한다.
+-- 운영 중 쓰기 잠금을 피하기 위해 CONCURRENTLY로 생성한다 (트랜잭션 밖에서 실행됨).
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_record_subject_recorded
+    ON care_records (care_subject_id, recorded_at DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_record_subject_type_recorded
+    ON care_records (care_subject_id, record_type, recorded_at DESC, id DESC);
+
+-- 복합 인덱스가 대체하는 단일 컬럼 인덱스
+DROP INDEX CONCURRENTLY IF EXISTS idx_care_record_subject;
+DROP INDEX CONCURRENTLY IF EXISTS idx_care_record_type;
+DROP INDEX CONCURRENTLY IF EXISTS idx_care_record_date;
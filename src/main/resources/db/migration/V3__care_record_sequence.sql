@@ -0,0 +1,9 @@
+-- 케어 기록 ID를 IDENTITY에서 시퀀스로 전환 (Hibernate INSERT 배치 적용을 위함)
+-- Hibernate pooled 옵티마이저가 50개 단위로 ID를 할당하므로 INCREMENT BY 50과 맞춘다.
+
+CREATE SEQUENCE IF NOT EXISTS care_records_seq INCREMENT BY 50;
+
+-- 기존 ID와 겹치지 않도록 시작 위치 조정
+SELECT setval('care_records_seq', COALESCE((SELECT MAX(id) FROM care_records), 0) + 50);
+
+ALTER TABLE care_records ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,26 @@
+-- 케어 대상 / 일자 / 기록 유형별 일별 집계
+CREATE TABLE care_record_daily_stats (
+    care_subject_id        BIGINT         NOT NULL REFERENCES care_subjects (id),
+    stat_date              DATE           NOT NULL,
+    record_type            VARCHAR(20)    NOT NULL,
+    record_count           BIGINT         NOT NULL DEFAULT 0,
+    total_duration_minutes NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    total_amount           NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    updated_at             TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (care_subject_id, stat_date, record_type)
+);
+
+-- 기존 기록 백필 (CareRecordDailyStatRepository.rebuildByCareSubjectId와 동일한 규칙)
+INSERT INTO care_record_daily_stats
+    (care_subject_id, stat_date, record_type, record_count, total_duration_minutes, total_amount, updated_at)
+SELECT care_subject_id,
+       CAST(recorded_at AS date),
+       record_type,
+       COUNT(*),
+       COALESCE(SUM(CASE WHEN jsonb_typeof(record_data -> 'durationMinutes') = 'number'
+                         THEN CAST(record_data ->> 'durationMinutes' AS numeric) END), 0),
+       COALESCE(SUM(CASE WHEN jsonb_typeof(record_data -> 'amount') = 'number'
+                         THEN CAST(record_data ->> 'amount' AS numeric) END), 0),
+       now()
+FROM care_records
+GROUP BY care_subject_id, CAST(recorded_at AS date), record_type;
@@ -0,0 +1,35 @@
+-- 케어 대상별 변경 순번 (증분 동기화용)
+ALTER TABLE care_subjects
+    ADD COLUMN change_seq    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN compacted_seq BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE care_records ADD COLUMN change_seq BIGINT;
+
+-- 기존 기록은 ID 순서로 순번 부여
+UPDATE care_records cr
+SET change_seq = s.seq
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY care_subject_id ORDER BY id) AS seq
+      FROM care_records) s
+WHERE cr.id = s.id;
+
+UPDATE care_subjects cs
+SET change_seq = c.max_seq
+FROM (SELECT care_subject_id, MAX(change_seq) AS max_seq
+      FROM care_records
+      GROUP BY care_subject_id) c
+WHERE cs.id = c.care_subject_id;
+
+ALTER TABLE care_records ALTER COLUMN change_seq SET NOT NULL;
+
+CREATE INDEX idx_care_record_subject_change ON care_records (care_subject_id, change_seq);
+
+-- 삭제 표시
+CREATE TABLE care_record_tombstones (
+    record_id       BIGINT       PRIMARY KEY,
+    care_subject_id BIGINT       NOT NULL REFERENCES care_subjects (id),
+    change_seq      BIGINT       NOT NULL,
+    deleted_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_care_record_tombstone_subject_seq ON care_record_tombstones (care_subject_id, change_seq);
+CREATE INDEX idx_care_record_tombstone_deleted_at ON care_record_tombstones (deleted_at);
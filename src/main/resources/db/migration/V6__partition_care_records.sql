@@ -0,0 +1,57 @@
+-- care_records를 recorded_at 기준 월별 범위 파티션 테이블로 전환
+-- 기존 데이터를 새 테이블로 복사하므로 데이터 양에 비례해 시간이 걸린다 (점검 시간에 실행).
+-- 파티션 테이블의 기본 키는 파티션 키를 포함해야 하므로 (id, recorded_at)이 된다.
+-- ID 유일성은 care_records_seq가 보장한다.
+-- 기본(DEFAULT) 파티션은 두지 않는다 (정렬된 파티션 스캔을 막기 때문). 파티션은 스케줄 작업이 유지 범위만큼 미리 만들고,
+-- 파티션이 없는 월의 기록은 애플리케이션이 저장을 거부한다.
+
+ALTER TABLE care_records RENAME TO care_records_legacy;
+
+DROP INDEX IF EXISTS idx_care_record_subject_recorded;
+DROP INDEX IF EXISTS idx_care_record_subject_type_recorded;
+DROP INDEX IF EXISTS idx_care_record_subject_change;
+
+CREATE TABLE care_records (
+    id              BIGINT        NOT NULL,
+    care_subject_id BIGINT        NOT NULL REFERENCES care_subjects (id),
+    record_type     VARCHAR(20)   NOT NULL,
+    title           VARCHAR(200)  NOT NULL,
+    description     VARCHAR(1000),
+    recorded_at     TIMESTAMP(6)  NOT NULL,
+    record_data     JSONB,
+    recorded_by     BIGINT        NOT NULL REFERENCES users (id),
+    created_at      TIMESTAMP(6)  NOT NULL,
+    updated_at      TIMESTAMP(6)  NOT NULL,
+    change_seq      BIGINT        NOT NULL,
+    CONSTRAINT pk_care_records PRIMARY KEY (id, recorded_at)
+) PARTITION BY RANGE (recorded_at);
+
+-- 기존 데이터 범위 ~ 3개월 뒤까지 월별 파티션 생성
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', LEAST(
+            COALESCE((SELECT MIN(recorded_at) FROM care_records_legacy), now()), now()));
+    last_month  DATE := date_trunc('month', GREATEST(
+            COALESCE((SELECT MAX(recorded_at) FROM care_records_legacy), now()), now() + INTERVAL '3 months'));
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF care_records FOR VALUES FROM (%L) TO (%L)',
+                       'care_records_p' || to_char(month_start, 'YYYYMM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO care_records (id, care_subject_id, record_type, title, description, recorded_at, record_data,
+                          recorded_by, created_at, updated_at, change_seq)
+SELECT id, care_subject_id, record_type, title, description, recorded_at, record_data,
+       recorded_by, created_at, updated_at, change_seq
+FROM care_records_legacy;
+
+DROP TABLE care_records_legacy;
+
+-- 파티션 테이블 인덱스 (각 파티션에 자동 생성)
+CREATE INDEX idx_care_record_subject_recorded ON care_records (care_subject_id, recorded_at DESC, id DESC);
+CREATE INDEX idx_care_record_subject_type_recorded ON care_records (care_subject_id, record_type, recorded_at DESC, id DESC);
+CREATE INDEX idx_care_record_subject_change ON care_records (care_subject_id, change_seq);
@@ -0,0 +1,21 @@
+-- 오래된 케어 기록 보관 테이블
+-- record_data는 애플리케이션에서 gzip으로 압축해 저장하므로 TOAST 압축은 건너뛴다.
+CREATE TABLE care_records_archive (
+    id              BIGINT        PRIMARY KEY,
+    care_subject_id BIGINT        NOT NULL,
+    record_type     VARCHAR(20)   NOT NULL,
+    title           VARCHAR(200)  NOT NULL,
+    description     VARCHAR(1000),
+    recorded_at     TIMESTAMP(6)  NOT NULL,
+    record_data_gz  BYTEA,
+    recorded_by     BIGINT        NOT NULL,
+    created_at      TIMESTAMP(6)  NOT NULL,
+    updated_at      TIMESTAMP(6)  NOT NULL,
+    change_seq      BIGINT        NOT NULL,
+    archived_at     TIMESTAMP(6)  NOT NULL
+);
+
+ALTER TABLE care_records_archive ALTER COLUMN record_data_gz SET STORAGE EXTERNAL;
+
+CREATE INDEX idx_care_record_archive_subject_recorded
+    ON care_records_archive (care_subject_id, recorded_at DESC, id DESC);
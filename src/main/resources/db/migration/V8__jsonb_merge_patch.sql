@@ -0,0 +1,27 @@
+-- JSON Merge Patch (RFC 7386) 적용 함수
+-- patch의 null 값은 키 삭제, 객체는 재귀적으로 병합, 그 외 값은 그대로 대체한다.
+CREATE OR REPLACE FUNCTION jsonb_merge_patch(target JSONB, patch JSONB)
+    RETURNS JSONB
+    LANGUAGE plpgsql
+    IMMUTABLE
+AS $$
+BEGIN
+    IF patch IS NULL OR jsonb_typeof(patch) <> 'object' THEN
+        RETURN patch;
+    END IF;
+
+    IF target IS NULL OR jsonb_typeof(target) <> 'object' THEN
+        target := '{}'::jsonb;
+    END IF;
+
+    RETURN (
+        SELECT COALESCE(jsonb_object_agg(
+                       key,
+                       CASE WHEN p.value IS NULL THEN t.value ELSE jsonb_merge_patch(t.value, p.value) END),
+                       '{}'::jsonb)
+        FROM jsonb_each(target) t
+        FULL JOIN jsonb_each(patch) p USING (key)
+        WHERE p.value IS NULL OR jsonb_typeof(p.value) <> 'null'
+    );
+END
+$$;
@@ -0,0 +1,77 @@
+-- 기록 유형별 상세 값을 recordData에서 생성하는 컬럼 (STORED)
+-- INSERT/UPDATE/JSON 병합 등 모든 쓰기 경로에서 DB가 자동으로 채우며, 그 외 키는 record_data에 그대로 남는다.
+--   FEEDING: amount(숫자), method(문자열)
+--   SLEEP:   startTime, endTime (yyyy-MM-dd'T'HH:mm[:ss[.SSSSSS]][Z|+HH:mm] 문자열)
+--   DIAPER:  kind(문자열)
+--   HEALTH:  temperature(숫자)
+-- 타입이나 형식이 맞지 않는 값, 없는 날짜(2월 30일 등)는 NULL로 둔다 (쓰기는 실패하지 않음).
+--
+-- 주의: STORED 생성 컬럼 추가는 care_records의 모든 파티션을 다시 쓰며, 그동안 ACCESS EXCLUSIVE 잠금으로
+-- 읽기/쓰기가 모두 막힌다. 데이터 양에 비례해 시간이 걸리므로 점검 시간에 적용한다.
+
+-- 정규식으로 형식을 엄격히 확인하고 월별 일수를 직접 검사한 뒤 각 필드를 make_timestamp로 조합한다.
+-- DateStyle/TimeZone 설정을 참조하지 않으므로 IMMUTABLE 선언이 실제 동작과 일치하고, 예외를 삼키지 않는다.
+-- 초는 생략할 수 있고 소수점 이하는 마이크로초까지만 사용한다.
+-- 시간대(Z, +09:00 등)는 허용하되 변환하지 않는다. recorded_at과 같이 기록한 쪽의 현지 시각으로 본다.
+CREATE OR REPLACE FUNCTION care_record_timestamp(value TEXT)
+    RETURNS TIMESTAMP
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS $$
+    SELECT CASE
+               WHEN m.p IS NOT NULL
+                    AND CAST(m.p[3] AS INTEGER) <= EXTRACT(DAY FROM
+                            make_date(CAST(m.p[1] AS INTEGER), CAST(m.p[2] AS INTEGER), 1)
+                            + INTERVAL '1 month' - INTERVAL '1 day')
+               THEN make_timestamp(
+                       CAST(m.p[1] AS INTEGER),
+                       CAST(m.p[2] AS INTEGER),
+                       CAST(m.p[3] AS INTEGER),
+                       CAST(m.p[4] AS INTEGER),
+                       CAST(m.p[5] AS INTEGER),
+                       CAST(COALESCE(m.p[6], '0') || COALESCE(left(m.p[7], 7), '') AS DOUBLE PRECISION))
+           END
+    FROM regexp_match(value,
+            '^([1-9]\d{3})-(0[1-9]|1[0-2])-(0[1-9]|[12]\d|3[01])T([01]\d|2[0-3]):([0-5]\d)'
+            '(?::([0-5]\d)(\.\d{1,9})?)?(?:Z|[+-](?:[01]\d|2[0-3]):?[0-5]\d)?$') AS m(p)
+$$;
+
+ALTER TABLE care_records
+    ADD COLUMN feeding_amount NUMERIC GENERATED ALWAYS AS (
+        CASE WHEN record_type = 'FEEDING' AND jsonb_typeof(record_data -> 'amount') = 'number'
+             THEN CAST(record_data ->> 'amount' AS NUMERIC) END) STORED,
+    ADD COLUMN feeding_method VARCHAR(30) GENERATED ALWAYS AS (
+        CASE WHEN record_type = 'FEEDING' AND jsonb_typeof(record_data -> 'method') = 'string'
+             THEN CAST(left(record_data ->> 'method', 30) AS VARCHAR(30)) END) STORED,
+    ADD COLUMN sleep_start_at TIMESTAMP(6) GENERATED ALWAYS AS (
+        CASE WHEN record_type = 'SLEEP' AND jsonb_typeof(record_data -> 'startTime') = 'string'
+             THEN care_record_timestamp(record_data ->> 'startTime') END) STORED,
+    ADD COLUMN sleep_end_at TIMESTAMP(6) GENERATED ALWAYS AS (
+        CASE WHEN record_type = 'SLEEP' AND jsonb_typeof(record_data -> 'endTime') = 'string'
+             THEN care_record_timestamp(record_data ->> 'endTime') END) STORED,
+    ADD COLUMN sleep_minutes NUMERIC GENERATED ALWAYS AS (
+        CASE WHEN record_type = 'SLEEP' AND jsonb_typeof(record_data -> 'startTime') = 'string'
+                  AND jsonb_typeof(record_data -> 'endTime') = 'string'
+             THEN EXTRACT(EPOCH FROM care_record_timestamp(record_data ->> 'endTime')
+                                    - care_record_timestamp(record_data ->> 'startTime')) / 60 END) STORED,
+    ADD COLUMN diaper_kind VARCHAR(30) GENERATED ALWAYS AS (
+        CASE WHEN record_type = 'DIAPER' AND jsonb_typeof(record_data -> 'kind') = 'string'
+             THEN CAST(left(record_data ->> 'kind', 30) AS VARCHAR(30)) END) STORED,
+    ADD COLUMN health_temperature NUMERIC GENERATED ALWAYS AS (
+        CASE WHEN record_type = 'HEALTH' AND jsonb_typeof(record_data -> 'temperature') = 'number'
+             THEN CAST(record_data ->> 'temperature' AS NUMERIC) END) STORED;
+
+-- 유형별 부분 인덱스: 기간 집계를 인덱스만으로 처리
+CREATE INDEX idx_care_record_feeding
+    ON care_records (care_subject_id, recorded_at) INCLUDE (feeding_method, feeding_amount)
+    WHERE record_type = 'FEEDING';
+CREATE INDEX idx_care_record_sleep
+    ON care_records (care_subject_id, recorded_at) INCLUDE (sleep_start_at, sleep_end_at, sleep_minutes)
+    WHERE record_type = 'SLEEP';
+CREATE INDEX idx_care_record_diaper
+    ON care_records (care_subject_id, recorded_at) INCLUDE (diaper_kind)
+    WHERE record_type = 'DIAPER';
+CREATE INDEX idx_care_record_health
+    ON care_records (care_subject_id, recorded_at) INCLUDE (health_temperature)
+    WHERE record_type = 'HEALTH';
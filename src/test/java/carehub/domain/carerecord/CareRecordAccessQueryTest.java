@@ -0,0 +1,98 @@
+package carehub.domain.carerecord;
+
+import carehub.support.CareRecordFixtures;
+import carehub.support.PostgresContainerTest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록 단건 조회가 접근 여부/작성자 여부와 함께 쿼리 한 번으로 끝나는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CareRecordAccessQueryTest extends PostgresContainerTest {
+
+    @Autowired
+    private CareRecordRepository careRecordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Long creatorId;
+    private Long recordId;
+
+    @BeforeEach
+    void setUp() {
+        creatorId = CareRecordFixtures.insertUser(jdbcTemplate, "creator@test.com");
+        Long careSubjectId = CareRecordFixtures.insertCareSubject(jdbcTemplate, creatorId, "아기");
+        recordId = CareRecordFixtures.insertCareRecord(jdbcTemplate, careSubjectId, creatorId, "FEEDING",
+                "feeding", LocalDateTime.now().minusMinutes(1), null);
+
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void loadsRecordSubjectAndAuthorWithVerdictInSingleStatement() {
+        Optional<CareRecordAccess> access = careRecordRepository.findAccessById(recordId, creatorId);
+
+        assertThat(access).isPresent();
+        assertThat(access.get().accessible()).isTrue();
+        assertThat(access.get().author()).isTrue();
+        // 케어 대상과 작성자는 함께 조회되어 추가 쿼리가 없어야 함
+        assertThat(access.get().careRecord().getCareSubject().getName()).isEqualTo("아기");
+        assertThat(access.get().careRecord().getRecordedBy().getName()).isEqualTo("creator@test.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void acceptedGuardianCanAccessButIsNotAuthor() {
+        Long guardianId = insertGuardian("guardian@test.com", "ACCEPTED");
+
+        CareRecordAccess access = careRecordRepository.findAccessById(recordId, guardianId).orElseThrow();
+
+        assertThat(access.accessible()).isTrue();
+        assertThat(access.author()).isFalse();
+    }
+
+    @Test
+    void pendingGuardianAndStrangerCannotAccess() {
+        Long pendingId = insertGuardian("pending@test.com", "PENDING");
+        Long strangerId = CareRecordFixtures.insertUser(jdbcTemplate, "stranger@test.com");
+
+        assertThat(careRecordRepository.findAccessById(recordId, pendingId).orElseThrow().accessible()).isFalse();
+        assertThat(careRecordRepository.findAccessById(recordId, strangerId).orElseThrow().accessible()).isFalse();
+    }
+
+    @Test
+    void missingRecordIsEmpty() {
+        assertThat(careRecordRepository.findAccessById(Long.MAX_VALUE, creatorId)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Long insertGuardian(String email, String status) {
+        Long userId = CareRecordFixtures.insertUser(jdbcTemplate, email);
+        Long careSubjectId = jdbcTemplate.queryForObject(
+                "SELECT care_subject_id FROM care_records WHERE id = ?", Long.class, recordId);
+        jdbcTemplate.update("INSERT INTO guardians (user_id, care_subject_id, role, status, invited_by, invited_at) " +
+                "VALUES (?, ?, 'SECONDARY', ?, ?, now())", userId, careSubjectId, status, creatorId);
+        return userId;
+    }
+}
@@ -0,0 +1,69 @@
+package carehub.domain.carerecord;
+
+import carehub.common.exception.BusinessException;
+import carehub.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CareRecordCursorTest {
+
+    @Test
+    void roundTripsRecordedAtAndId() {
+        CareRecordCursor cursor = new CareRecordCursor(LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000_000), 42L);
+
+        CareRecordCursor decoded = CareRecordCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsWholeSecondAndFirstPageCursor() {
+        CareRecordCursor cursor = new CareRecordCursor(LocalDateTime.of(2026, 1, 1, 0, 0), 1L);
+
+        assertThat(CareRecordCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(CareRecordCursor.decode(CareRecordCursor.first().encode())).isEqualTo(CareRecordCursor.first());
+    }
+
+    @Test
+    void encodesAsUrlSafeStringWithoutPadding() {
+        String encoded = new CareRecordCursor(LocalDateTime.of(2026, 3, 14, 9, 26, 53), Long.MAX_VALUE).encode();
+
+        assertThat(encoded).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void missingCursorMeansFirstPage() {
+        assertThat(CareRecordCursor.decode(null)).isEqualTo(CareRecordCursor.first());
+        assertThat(CareRecordCursor.decode(" ")).isEqualTo(CareRecordCursor.first());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "%%%", "2026-03-14T09:26:53|42"})
+    void rejectsMalformedCursor(String cursor) {
+        assertInvalid(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2026-03-14T09:26:53", "2026-13-14T09:26:53|42", "2026-03-14T09:26:53|abc",
+            "2026-03-14T09:26:53|", "|42", "2026-03-14T09:26:53|99999999999999999999"})
+    void rejectsTamperedCursor(String raw) {
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertInvalid(tampered);
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> CareRecordCursor.decode(cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
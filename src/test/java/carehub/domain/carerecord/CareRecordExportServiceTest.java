@@ -0,0 +1,124 @@
+package carehub.domain.carerecord;
+
+import carehub.domain.caresubject.CareSubjectRepository;
+import carehub.support.CareRecordFixtures;
+import carehub.support.PostgresContainerTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내보내기가 최근/보관 기록을 월별로 합쳐 기록 시간 순으로 출력하는지, CSV 이스케이프가 맞는지 확인
+ * 내보내기는 별도 커넥션과 트랜잭션에서 읽으므로 테스트 데이터는 커밋하고 끝나면 지운다.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CareRecordExportServiceTest extends PostgresContainerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CareRecordExportService exportService;
+    private Long userId;
+    private Long careSubjectId;
+
+    @BeforeEach
+    void setUp() {
+        // fetch size를 작게 두어 한 달 안에서도 여러 번 나누어 읽도록 한다
+        exportService = new CareRecordExportService(
+                Mockito.mock(CareSubjectRepository.class), objectMapper, dataSource, 2);
+
+        userId = CareRecordFixtures.insertUser(jdbcTemplate, "export@test.com");
+        careSubjectId = CareRecordFixtures.insertCareSubject(jdbcTemplate, userId, "export");
+
+        LocalDateTime monthStart = YearMonth.now().atDay(1).atStartOfDay();
+        // 파티션이 없는 과거 월 (기본 파티션에 저장됨)
+        CareRecordFixtures.insertCareRecord(jdbcTemplate, careSubjectId, userId, "HEALTH",
+                "=HYPERLINK(\"http://evil\")", monthStart.minusMonths(3), "{\"temperature\": 37.5}");
+        CareRecordFixtures.insertCareRecord(jdbcTemplate, careSubjectId, userId, "FEEDING",
+                "milk, warm", monthStart.plusMinutes(1), "{\"note\": \"a\\\"b\"}");
+        CareRecordFixtures.insertCareRecord(jdbcTemplate, careSubjectId, userId, "DIAPER",
+                "line\nbreak", monthStart.plusMinutes(2), null);
+        CareRecordFixtures.insertCareRecord(jdbcTemplate, careSubjectId, userId, "SLEEP",
+                "nap", monthStart.plusMinutes(3), null);
+
+        // 보관된 기록 (압축된 record_data)
+        jdbcTemplate.update("INSERT INTO care_records_archive (id, care_subject_id, record_type, title, recorded_at, " +
+                        "record_data_gz, recorded_by, created_at, updated_at, change_seq, archived_at) " +
+                        "VALUES (?, ?, 'FEEDING', 'archived', ?, ?, ?, now(), now(), 1, now())",
+                -1L, careSubjectId, Timestamp.valueOf(monthStart.minusMonths(30)),
+                RecordDataCompression.compress("{\"amount\": 80}"), userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM care_records_archive WHERE care_subject_id = ?", careSubjectId);
+        jdbcTemplate.update("DELETE FROM care_records WHERE care_subject_id = ?", careSubjectId);
+        jdbcTemplate.update("DELETE FROM care_subjects WHERE id = ?", careSubjectId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void ndjsonContainsLiveAndArchivedRecordsInRecordedOrder() throws Exception {
+        String[] lines = export(CareRecordExportFormat.NDJSON).split("\n");
+
+        assertThat(lines).hasSize(5);
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : lines) {
+            rows.add(objectMapper.readTree(line));
+        }
+
+        assertThat(rows).extracting(row -> row.get("title").asText())
+                .containsExactly("archived", "=HYPERLINK(\"http://evil\")", "milk, warm", "line\nbreak", "nap");
+        // 보관된 기록은 압축을 풀어, 최근 기록은 jsonb 원문 그대로 출력
+        assertThat(rows.get(0).get("recordData").get("amount").asInt()).isEqualTo(80);
+        assertThat(rows.get(2).get("recordData").get("note").asText()).isEqualTo("a\"b");
+        assertThat(rows.get(3).get("recordData").isNull()).isTrue();
+        assertThat(rows.get(1).get("recordedByName").asText()).isEqualTo("export@test.com");
+    }
+
+    @Test
+    void csvEscapesDelimitersAndNeutralizesFormulas() throws Exception {
+        String csv = export(CareRecordExportFormat.CSV);
+
+        assertThat(csv).startsWith("id,recordType,title,description,recordedAt,recordData,");
+        assertThat(csv).contains(",\"'=HYPERLINK(\"\"http://evil\"\")\",");
+        assertThat(csv).contains(",\"milk, warm\",");
+        assertThat(csv).contains(",\"line\nbreak\",");
+        assertThat(csv).contains(",\"{\"\"note\"\": \"\"a\\\"\"b\"\"}\",");
+        // 헤더 + 5건, 여러 줄 값은 따옴표 안에 있음
+        assertThat(csv.split("\n(?=-?\\d+,[A-Z]+,)")).hasSize(6);
+    }
+
+    private String export(CareRecordExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(careSubjectId, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
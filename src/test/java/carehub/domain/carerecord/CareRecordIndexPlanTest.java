@@ -0,0 +1,101 @@
+package carehub.domain.carerecord;
+
+import carehub.support.CareRecordFixtures;
+import carehub.support.PostgresContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 경로가 복합 인덱스(V2, 파티션별로 생성됨)를 타는지 실행 계획으로 확인
+ * 월 파티션을 순차 스캔하면 인덱스와 쿼리 조건/정렬이 어긋난 것이다.
+ * (비어 있는 기본 파티션은 계획에 따라 순차 스캔될 수 있으므로 기간 조회 외에는 검사하지 않는다)
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CareRecordIndexPlanTest extends PostgresContainerTest {
+
+    // 쿼리 형태는 CareRecordRepository의 커서/기간 조회와 같다
+    private static final String KEYSET_SQL =
+            "SELECT id FROM care_records WHERE care_subject_id = ? " +
+            "AND recorded_at <= ? AND (recorded_at, id) < (?, ?) " +
+            "ORDER BY recorded_at DESC, id DESC LIMIT 20";
+
+    private static final String KEYSET_BY_TYPE_SQL =
+            "SELECT id FROM care_records WHERE care_subject_id = ? AND record_type = ? " +
+            "AND recorded_at <= ? AND (recorded_at, id) < (?, ?) " +
+            "ORDER BY recorded_at DESC, id DESC LIMIT 20";
+
+    private static final String DATE_RANGE_SQL =
+            "SELECT id FROM care_records WHERE care_subject_id = ? " +
+            "AND recorded_at >= ? AND recorded_at <= ? " +
+            "ORDER BY recorded_at DESC, id DESC LIMIT 20";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long careSubjectId;
+    private Timestamp cursor;
+
+    @BeforeEach
+    void setUp() {
+        Long userId = CareRecordFixtures.insertUser(jdbcTemplate, "plan@test.com");
+        careSubjectId = CareRecordFixtures.insertCareSubject(jdbcTemplate, userId, "subject");
+
+        // 다른 대상의 기록을 섞어 케어 대상 조건의 선택도를 운영과 비슷하게 만든다
+        for (int i = 0; i < 9; i++) {
+            Long otherSubjectId = CareRecordFixtures.insertCareSubject(jdbcTemplate, userId, "other " + i);
+            CareRecordFixtures.insertCareRecords(jdbcTemplate, otherSubjectId, userId, 2_000);
+        }
+        CareRecordFixtures.insertCareRecords(jdbcTemplate, careSubjectId, userId, 2_000);
+        jdbcTemplate.execute("ANALYZE care_records");
+
+        cursor = Timestamp.valueOf(YearMonth.now().atDay(1).atStartOfDay().plusDays(1));
+    }
+
+    @Test
+    void keysetQueryUsesSubjectRecordedIndex() {
+        List<String> plan = explain(KEYSET_SQL, careSubjectId, cursor, cursor, Long.MAX_VALUE);
+
+        assertUsesIndex(plan);
+    }
+
+    @Test
+    void keysetByTypeQueryUsesSubjectTypeRecordedIndex() {
+        List<String> plan = explain(KEYSET_BY_TYPE_SQL, careSubjectId, "FEEDING", cursor, cursor, Long.MAX_VALUE);
+
+        assertUsesIndex(plan);
+    }
+
+    @Test
+    void dateRangeQueryUsesSubjectRecordedIndex() {
+        LocalDateTime monthStart = YearMonth.now().atDay(1).atStartOfDay();
+        List<String> plan = explain(DATE_RANGE_SQL, careSubjectId,
+                Timestamp.valueOf(monthStart), Timestamp.valueOf(monthStart.plusDays(1)));
+
+        assertUsesIndex(plan);
+        // 범위가 월 파티션 안에 있으므로 기본 파티션도 제외되어야 함
+        assertThat(plan).noneMatch(line -> line.contains("Seq Scan"));
+    }
+
+    private List<String> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+    }
+
+    private static void assertUsesIndex(List<String> plan) {
+        assertThat(plan)
+                .as(String.join("\n", plan))
+                .anyMatch(line -> line.contains("Index Scan") || line.contains("Index Only Scan"))
+                .noneMatch(line -> line.contains("Seq Scan on " + CareRecordPartitionService.PARTITION_PREFIX));
+    }
+}
@@ -0,0 +1,96 @@
+package carehub.domain.carerecord;
+
+import carehub.support.CareRecordFixtures;
+import carehub.support.PostgresContainerTest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회가 엔티티 없이 DTO 프로젝션 쿼리 한 번으로 끝나는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CareRecordSummaryQueryTest extends PostgresContainerTest {
+
+    @Autowired
+    private CareRecordRepository careRecordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Long careSubjectId;
+    private Long userId;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now().withNano(0);
+        userId = CareRecordFixtures.insertUser(jdbcTemplate, "summary@test.com");
+        careSubjectId = CareRecordFixtures.insertCareSubject(jdbcTemplate, userId, "아기");
+        for (int i = 0; i < 5; i++) {
+            CareRecordFixtures.insertCareRecord(jdbcTemplate, careSubjectId, userId, "FEEDING",
+                    "feeding " + i, now.minusMinutes(i), "{\"amount\": " + (100 + i) + "}");
+        }
+
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void cursorQueryReturnsProjectionInSingleStatement() {
+        List<CareRecordSummary> summaries = careRecordRepository.findByCareSubjectIdBefore(
+                careSubjectId, now.plusMinutes(1), Long.MAX_VALUE, PageRequest.of(0, 3));
+
+        assertThat(summaries).extracting(CareRecordSummary::title)
+                .containsExactly("feeding 0", "feeding 1", "feeding 2");
+        assertThat(summaries.get(0).careSubjectName()).isEqualTo("아기");
+        assertThat(summaries.get(0).recordedByName()).isEqualTo("summary@test.com");
+        assertThat(summaries.get(0).recordData()).containsEntry("amount", 100);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void recentQueryDoesNotLoadEntities() {
+        List<CareRecordSummary> summaries = careRecordRepository.findRecentByCareSubjectId(
+                careSubjectId, PageRequest.of(0, 10));
+
+        assertThat(summaries).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // 영속성 컨텍스트에 등록된 엔티티가 없음 (변경 감지 대상 아님)
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void pagedQueryUsesExplicitCountQuery() {
+        Page<CareRecordSummary> page = careRecordRepository.findByCareSubjectId(careSubjectId, PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).hasSize(2);
+        // 내용 + 개수 쿼리
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,91 @@
+package carehub.domain.carerecord;
+
+import carehub.domain.caresubject.CareSubject;
+import carehub.domain.caresubject.CareSubjectRepository;
+import carehub.web.dto.carerecord.CareRecordSyncResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CareRecordSyncServiceTest {
+
+    private static final Long CARE_SUBJECT_ID = 1L;
+    private static final Long USER_ID = 2L;
+
+    @Mock
+    private CareRecordRepository careRecordRepository;
+
+    @Mock
+    private CareRecordTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private CareSubjectRepository careSubjectRepository;
+
+    @InjectMocks
+    private CareRecordSyncService careRecordSyncService;
+
+    @BeforeEach
+    void setUp() {
+        when(careSubjectRepository.findByIdAndAccessibleByUserId(CARE_SUBJECT_ID, USER_ID))
+                .thenReturn(Optional.of(new CareSubject()));
+        // 순번 50까지의 삭제 표시가 정리된 상태
+        lenient().when(careSubjectRepository.findCompactedSeq(CARE_SUBJECT_ID)).thenReturn(50L);
+        lenient().when(tombstoneRepository.findChangedSince(eq(CARE_SUBJECT_ID), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    void pagedFullSyncContinuesAfterCompaction() {
+        when(careRecordRepository.findChangedSince(eq(CARE_SUBJECT_ID), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(summary(10L), summary(20L)));
+        when(careRecordRepository.findChangedSince(eq(CARE_SUBJECT_ID), eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(summary(20L)));
+
+        CareRecordSyncResponse first = careRecordSyncService.getChanges(CARE_SUBJECT_ID, 0, false, 1, USER_ID);
+
+        assertThat(first.getChanges()).hasSize(1);
+        assertThat(first.getNextSince()).isEqualTo(10L);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.isFullSync()).isTrue();
+
+        CareRecordSyncResponse second = careRecordSyncService.getChanges(
+                CARE_SUBJECT_ID, first.getNextSince(), first.isFullSync(), 1, USER_ID);
+
+        assertThat(second.isResetRequired()).isFalse();
+        assertThat(second.getChanges()).extracting(CareRecordSyncResponse.Change::getChangeSeq).containsExactly(20L);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.isFullSync()).isFalse();
+    }
+
+    @Test
+    void incrementalSyncBeforeCompactedSeqRequiresReset() {
+        CareRecordSyncResponse response = careRecordSyncService.getChanges(CARE_SUBJECT_ID, 10, false, 100, USER_ID);
+
+        assertThat(response.isResetRequired()).isTrue();
+        assertThat(response.getNextSince()).isZero();
+        assertThat(response.getChanges()).isEmpty();
+    }
+
+    private static CareRecordSummary summary(long changeSeq) {
+        LocalDateTime now = LocalDateTime.now();
+        return new CareRecordSummary(changeSeq, CARE_SUBJECT_ID, "subject", CareRecordType.FEEDING, "title", null,
+                now, Map.of(), USER_ID, "user", now, now, changeSeq);
+    }
+}
@@ -0,0 +1,77 @@
+package carehub.domain.carerecord;
+
+import carehub.support.CareRecordFixtures;
+import carehub.support.PostgresContainerTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수면 시간 생성 컬럼에 쓰이는 care_record_timestamp()가 잘못된 값에서 예외 대신 NULL을 돌려주는지 확인
+ * (생성 컬럼 계산 중 예외가 나면 기록 저장 자체가 실패한다)
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CareRecordTimestampFunctionTest extends PostgresContainerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @CsvSource({
+            "2024-02-29T10:00,           2024-02-29T10:00",
+            "2024-03-01T10:00:30,        2024-03-01T10:00:30",
+            "2024-03-01T10:00:30.5,      2024-03-01T10:00:30.5",
+            "2024-03-01T10:00:30.1234567, 2024-03-01T10:00:30.123456",
+            "2024-03-01T23:59:59Z,       2024-03-01T23:59:59",
+            "2024-03-01T10:00+09:00,     2024-03-01T10:00",
+            "2024-03-01T10:00:00-0530,   2024-03-01T10:00"
+    })
+    void parsesSupportedFormats(String value, LocalDateTime expected) {
+        assertThat(parse(value)).isEqualTo(Timestamp.valueOf(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2024-02-30T10:00",
+            "2023-02-29T10:00",
+            "2024-04-31T10:00:00",
+            "2024-13-01T10:00",
+            "2024-03-01T24:00",
+            "2024-03-01 10:00",
+            "2024-03-01",
+            "10:00",
+            ""
+    })
+    void returnsNullForInvalidValues(String value) {
+        assertThat(parse(value)).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2024-02-30T10:00, false", "2024-02-29T10:00, true"})
+    void sleepRecordIsSavedEvenWithImpossibleStartTime(String startTime, boolean parsed) {
+        Long userId = CareRecordFixtures.insertUser(jdbcTemplate, "sleep@test.com");
+        Long careSubjectId = CareRecordFixtures.insertCareSubject(jdbcTemplate, userId, "sleep");
+
+        Long recordId = CareRecordFixtures.insertCareRecord(jdbcTemplate, careSubjectId, userId, "SLEEP", "nap",
+                LocalDateTime.now().minusMinutes(1),
+                "{\"startTime\": \"" + startTime + "\", \"endTime\": \"2024-03-01T12:00\"}");
+
+        Timestamp sleepStartAt = jdbcTemplate.queryForObject(
+                "SELECT sleep_start_at FROM care_records WHERE id = ?", Timestamp.class, recordId);
+        assertThat(sleepStartAt != null).isEqualTo(parsed);
+    }
+
+    private Timestamp parse(String value) {
+        return jdbcTemplate.queryForObject("SELECT care_record_timestamp(?)", Timestamp.class, value);
+    }
+}
@@ -0,0 +1,49 @@
+package carehub.domain.carerecord;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecordDataCompressionTest {
+
+    @Test
+    void roundTripsJsonIncludingNonAscii() {
+        String json = "{\"amount\":120,\"method\":\"분유\",\"memo\":\"잘 먹음 \\uD83D\\uDE0A\",\"nested\":{\"a\":[1,2,3]}}";
+
+        byte[] compressed = RecordDataCompression.compress(json);
+
+        assertThat(RecordDataCompression.decompress(compressed)).isEqualTo(json);
+    }
+
+    @Test
+    void roundTripsEmptyObject() {
+        assertThat(RecordDataCompression.decompress(RecordDataCompression.compress("{}"))).isEqualTo("{}");
+    }
+
+    @Test
+    void shrinksRepetitiveData() {
+        String json = "{\"items\":[" + "{\"kind\":\"wet\",\"count\":1},".repeat(200) + "{}]}";
+
+        byte[] compressed = RecordDataCompression.compress(json);
+
+        assertThat(compressed.length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length / 10);
+    }
+
+    @Test
+    void keepsNullAsNull() {
+        assertThat(RecordDataCompression.compress(null)).isNull();
+        assertThat(RecordDataCompression.decompress(null)).isNull();
+    }
+
+    @Test
+    void rejectsCorruptedData() {
+        byte[] corrupted = "not gzip".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> RecordDataCompression.decompress(corrupted))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package carehub.domain.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void neverReportsInsertedValueAsMissing() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            String value = UUID.randomUUID().toString();
+            values.add(value);
+            filter.put(value);
+        }
+
+        // 예상 개수를 넘겨 넣어도 거짓 음성은 없어야 함
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void sizesBitsAndHashesFromExpectedInsertions() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        // m = ceil(-n ln p / (ln 2)^2) = 9586, k = round(m / n * ln 2) = 7
+        assertThat(ReflectionTestUtils.getField(filter, "bitSize")).isEqualTo(9_586);
+        assertThat(ReflectionTestUtils.getField(filter, "hashCount")).isEqualTo(7);
+    }
+
+    @Test
+    void usesMinimumSizeForEmptyExpectation() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+
+        assertThat(ReflectionTestUtils.getField(filter, "bitSize")).isEqualTo(64);
+        assertThat((int) ReflectionTestUtils.getField(filter, "hashCount")).isPositive();
+
+        filter.put("jti");
+        assertThat(filter.mightContain("jti")).isTrue();
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("inserted-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void reportsMissingForEmptyFilter() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertThat(filter.mightContain("jti")).isFalse();
+    }
+}
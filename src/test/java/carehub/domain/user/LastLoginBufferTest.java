@@ -0,0 +1,124 @@
+package carehub.domain.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LastLoginBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LastLoginBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        buffer = new LastLoginBuffer(jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(buffer, "maxPending", 2);
+        ReflectionTestUtils.setField(buffer, "batchSize", 500);
+    }
+
+    @Test
+    void recordDropsNewUsersWhenFullWithoutTouchingDatabase() {
+        assertThat(buffer.record(1L, NOW)).isTrue();
+        assertThat(buffer.record(2L, NOW)).isTrue();
+
+        assertThat(buffer.record(3L, NOW)).isFalse();
+
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+        assertThat(buffer.droppedCount()).isEqualTo(1);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    @Test
+    void recordCoalescesExistingUserWhenFull() {
+        buffer.record(1L, NOW);
+        buffer.record(2L, NOW);
+
+        assertThat(buffer.record(1L, NOW.plusMinutes(1))).isTrue();
+        assertThat(buffer.record(1L, NOW.minusMinutes(1))).isTrue();
+
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+        assertThat(buffer.droppedCount()).isZero();
+    }
+
+    @Test
+    void flushWritesPendingAndClearsBuffer() {
+        buffer.record(1L, NOW);
+        buffer.record(2L, NOW);
+
+        buffer.flush();
+
+        assertThat(buffer.pendingCount()).isZero();
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedFlushRequeuesWithinCapacity() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new QueryTimeoutException("db down"));
+
+        buffer.record(1L, NOW);
+        buffer.record(2L, NOW);
+
+        buffer.flush();
+
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+        assertThat(buffer.droppedCount()).isZero();
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedFlushDoesNotGrowPastCapacity() {
+        buffer.record(1L, NOW);
+        buffer.record(2L, NOW);
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    // 반영 도중 새 로그인이 들어와 자리를 차지한 상황
+                    buffer.record(3L, NOW);
+                    buffer.record(4L, NOW);
+                    Collection<?> batch = invocation.getArgument(1);
+                    assertThat(batch).hasSize(2);
+                    throw new QueryTimeoutException("db down");
+                });
+
+        buffer.flush();
+
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+        assertThat(buffer.droppedCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,52 @@
+package carehub.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * DB 테스트용 사용자/케어 대상/케어 기록 데이터 (JPA를 거치지 않고 직접 삽입)
+ */
+public final class CareRecordFixtures {
+
+    private CareRecordFixtures() {
+    }
+
+    public static Long insertUser(JdbcTemplate jdbcTemplate, String email) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, name, is_active, created_at, updated_at) " +
+                "VALUES (?, ?, true, now(), now()) RETURNING id",
+                Long.class, email, email);
+    }
+
+    public static Long insertCareSubject(JdbcTemplate jdbcTemplate, Long userId, String name) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO care_subjects (name, birth_date, subject_type, is_active, created_by, main_caregiver_id, " +
+                "created_at, updated_at) VALUES (?, DATE '2025-01-01', 'INFANT', true, ?, ?, now(), now()) RETURNING id",
+                Long.class, name, userId, userId);
+    }
+
+    public static Long insertCareRecord(JdbcTemplate jdbcTemplate, Long careSubjectId, Long userId,
+                                        String recordType, String title, LocalDateTime recordedAt, String recordData) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO care_records (id, care_subject_id, record_type, title, recorded_at, record_data, " +
+                "recorded_by, created_at, updated_at, change_seq) " +
+                "VALUES (nextval('care_records_seq'), ?, ?, ?, ?, CAST(? AS jsonb), ?, now(), now(), 1) RETURNING id",
+                Long.class, careSubjectId, recordType, title, Timestamp.valueOf(recordedAt), recordData, userId);
+    }
+
+    /**
+     * 케어 대상 하나에 기록을 대량 삽입 (이번 달 1일부터 1분 간격이므로 같은 월 파티션에 들어감, 유형은 순환)
+     */
+    public static void insertCareRecords(JdbcTemplate jdbcTemplate, Long careSubjectId, Long userId, int count) {
+        jdbcTemplate.update(
+                "INSERT INTO care_records (id, care_subject_id, record_type, title, recorded_at, record_data, " +
+                "recorded_by, created_at, updated_at, change_seq) " +
+                "SELECT nextval('care_records_seq'), ?, " +
+                "(ARRAY['FEEDING', 'SLEEP', 'DIAPER', 'HEALTH'])[i % 4 + 1], 'record ' || i, " +
+                "date_trunc('month', now()) + i * INTERVAL '1 minute', NULL, ?, now(), now(), i " +
+                "FROM generate_series(1, ?) AS i",
+                careSubjectId, userId, count);
+    }
+}
@@ -0,0 +1,20 @@
+package carehub.support;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * PostgreSQL 컨테이너를 사용하는 테스트의 공통 설정
+ * 파티션, 생성 컬럼, jsonb 함수 등 운영 스키마를 Flyway 마이그레이션 그대로 적용한다.
+ * 캐시된 스프링 컨텍스트가 같은 DB를 가리키도록 컨테이너는 테스트 JVM 전체에서 하나만 띄운다
+ * (종료는 Testcontainers가 JVM 종료 시 처리).
+ */
+public abstract class PostgresContainerTest {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+}